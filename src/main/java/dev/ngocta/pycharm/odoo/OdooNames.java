@@ -7,6 +7,8 @@ public class OdooNames {
     public static final String MANIFEST_DEMO = "demo";
     public static final String MANIFEST_QWEB = "qweb";
     public static final String ODOO_ADDONS = "odoo.addons";
+    public static final String ODOO_FIELDS = "odoo.fields";
+    public static final String OPENERP_FIELDS = "openerp.fields";
     public static final String MODEL_NAME = "_name";
     public static final String MODEL_INHERIT = "_inherit";
     public static final String MODEL_INHERITS = "_inherits";
@@ -0,0 +1,41 @@
+package dev.ngocta.pycharm.odoo;
+
+import com.intellij.openapi.components.PersistentStateComponent;
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.components.State;
+import com.intellij.openapi.components.Storage;
+import com.intellij.util.xmlb.XmlSerializerUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@State(name = "OdooSettings", storages = @Storage("odoo.xml"))
+public class OdooSettings implements PersistentStateComponent<OdooSettings> {
+    public List<String> customFieldClasses = new ArrayList<>();
+
+    @NotNull
+    public static OdooSettings getInstance() {
+        return ServiceManager.getService(OdooSettings.class);
+    }
+
+    @NotNull
+    @Override
+    public OdooSettings getState() {
+        return this;
+    }
+
+    @Override
+    public void loadState(@NotNull OdooSettings state) {
+        XmlSerializerUtil.copyBean(state, this);
+    }
+
+    @NotNull
+    public List<String> getCustomFieldClasses() {
+        return customFieldClasses;
+    }
+
+    public void setCustomFieldClasses(@NotNull List<String> customFieldClasses) {
+        this.customFieldClasses = new ArrayList<>(customFieldClasses);
+    }
+}
@@ -0,0 +1,73 @@
+package dev.ngocta.pycharm.odoo;
+
+import com.intellij.openapi.options.Configurable;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.stubs.StubUpdatingIndex;
+import com.intellij.ui.components.JBLabel;
+import com.intellij.ui.components.JBScrollPane;
+import com.intellij.ui.components.JBTextArea;
+import com.intellij.util.FormBuilder;
+import com.intellij.util.indexing.FileBasedIndex;
+import dev.ngocta.pycharm.odoo.data.OdooExternalIdIndex;
+import dev.ngocta.pycharm.odoo.python.model.OdooFieldIndex;
+import dev.ngocta.pycharm.odoo.python.model.OdooModelIndex;
+import dev.ngocta.pycharm.odoo.python.model.OdooModelInheritIndex;
+import org.jetbrains.annotations.Nls;
+import org.jetbrains.annotations.Nullable;
+
+import javax.swing.*;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class OdooSettingsConfigurable implements Configurable {
+    private JBTextArea myCustomFieldClassesField;
+
+    @Nls(capitalization = Nls.Capitalization.Title)
+    @Override
+    public String getDisplayName() {
+        return "Odoo";
+    }
+
+    @Nullable
+    @Override
+    public JComponent createComponent() {
+        myCustomFieldClassesField = new JBTextArea(8, 40);
+        return FormBuilder.createFormBuilder()
+                .addLabeledComponent(new JBLabel("Custom field classes (one per line, optionally with a base type, e.g. my_module.fields.PartnerRef:Many2one):"), new JBScrollPane(myCustomFieldClassesField), true)
+                .addComponentFillVertically(new JPanel(), 0)
+                .getPanel();
+    }
+
+    @Override
+    public boolean isModified() {
+        return !getCustomFieldClasses().equals(OdooSettings.getInstance().getCustomFieldClasses());
+    }
+
+    @Override
+    public void apply() {
+        OdooSettings.getInstance().setCustomFieldClasses(getCustomFieldClasses());
+        FileBasedIndex index = FileBasedIndex.getInstance();
+        index.requestRebuild(StubUpdatingIndex.INDEX_ID);
+        index.requestRebuild(OdooModelIndex.NAME);
+        index.requestRebuild(OdooModelInheritIndex.NAME);
+        index.requestRebuild(OdooFieldIndex.NAME);
+        index.requestRebuild(OdooExternalIdIndex.NAME);
+    }
+
+    @Override
+    public void reset() {
+        myCustomFieldClassesField.setText(StringUtil.join(OdooSettings.getInstance().getCustomFieldClasses(), "\n"));
+    }
+
+    @Override
+    public void disposeUIResources() {
+        myCustomFieldClassesField = null;
+    }
+
+    private List<String> getCustomFieldClasses() {
+        return StringUtil.split(myCustomFieldClassesField.getText(), "\n").stream()
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,197 @@
+package dev.ngocta.pycharm.odoo;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectFileIndex;
+import com.intellij.openapi.util.ModificationTracker;
+import com.intellij.openapi.util.SimpleModificationTracker;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.*;
+import com.intellij.psi.*;
+import com.intellij.psi.impl.PsiTreeChangeEventImpl;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.jetbrains.python.PythonFileType;
+import com.jetbrains.python.psi.PyFile;
+import com.jetbrains.python.psi.PyFunction;
+import dev.ngocta.pycharm.odoo.python.module.OdooModuleManager;
+import dev.ngocta.pycharm.odoo.python.module.OdooModuleUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Changes when model-shaping code (anything in Odoo Python files outside function bodies) or the module graph
+ * changes, so model caches survive edits inside methods. Such changes are also counted per Odoo module for model
+ * caches computed in the scope of a module, separately from edits of any file of the module, which only matter to
+ * caches of module contents such as templates or JS modules.
+ */
+public class OdooStructureModificationTracker implements ModificationTracker, Disposable {
+    private final Project myProject;
+    private final SimpleModificationTracker myModificationTracker = new SimpleModificationTracker();
+    private final SimpleModificationTracker myGlobalModificationTracker = new SimpleModificationTracker();
+    private final Map<VirtualFile, SimpleModificationTracker> myModuleModificationTrackers = new ConcurrentHashMap<>();
+    private final Map<VirtualFile, SimpleModificationTracker> myModuleStructureModificationTrackers = new ConcurrentHashMap<>();
+
+    public OdooStructureModificationTracker(@NotNull Project project) {
+        myProject = project;
+        PsiManager.getInstance(project).addPsiTreeChangeListener(new PsiTreeChangeAdapter() {
+            @Override
+            public void childAdded(@NotNull PsiTreeChangeEvent event) {
+                onPsiChange(event);
+            }
+
+            @Override
+            public void childRemoved(@NotNull PsiTreeChangeEvent event) {
+                onPsiChange(event);
+            }
+
+            @Override
+            public void childReplaced(@NotNull PsiTreeChangeEvent event) {
+                onPsiChange(event);
+            }
+
+            @Override
+            public void childMoved(@NotNull PsiTreeChangeEvent event) {
+                onPsiChange(event);
+            }
+
+            @Override
+            public void childrenChanged(@NotNull PsiTreeChangeEvent event) {
+                onPsiChange(event);
+            }
+        }, this);
+        project.getMessageBus().connect(this).subscribe(VirtualFileManager.VFS_CHANGES, new BulkFileListener() {
+            @Override
+            public void before(@NotNull List<? extends VFileEvent> events) {
+                for (VFileEvent event : events) {
+                    if (!(event instanceof VFileCreateEvent)
+                            && !(event instanceof VFileCopyEvent)
+                            && !(event instanceof VFileContentChangeEvent)) {
+                        onFileChange(event);
+                    }
+                }
+            }
+
+            @Override
+            public void after(@NotNull List<? extends VFileEvent> events) {
+                for (VFileEvent event : events) {
+                    if (event instanceof VFileCreateEvent
+                            || event instanceof VFileCopyEvent
+                            || event instanceof VFileMoveEvent
+                            || event instanceof VFileContentChangeEvent) {
+                        onFileChange(event);
+                    }
+                }
+            }
+        });
+    }
+
+    @NotNull
+    public static OdooStructureModificationTracker getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, OdooStructureModificationTracker.class);
+    }
+
+    @Override
+    public long getModificationCount() {
+        return myModificationTracker.getModificationCount() + getModuleGraphModificationCount();
+    }
+
+    public long getGlobalModificationCount() {
+        return myGlobalModificationTracker.getModificationCount() + getModuleGraphModificationCount();
+    }
+
+    public long getModificationCount(@NotNull VirtualFile moduleDirectory) {
+        SimpleModificationTracker tracker = myModuleModificationTrackers.get(moduleDirectory);
+        return tracker != null ? tracker.getModificationCount() : 0;
+    }
+
+    public long getStructureModificationCount(@NotNull VirtualFile moduleDirectory) {
+        SimpleModificationTracker tracker = myModuleStructureModificationTrackers.get(moduleDirectory);
+        return tracker != null ? tracker.getModificationCount() : 0;
+    }
+
+    private long getModuleGraphModificationCount() {
+        return OdooModuleManager.getInstance(myProject).getModificationTracker().getModificationCount();
+    }
+
+    private void incModificationCount(@Nullable VirtualFile moduleDirectory,
+                                      boolean structural) {
+        if (moduleDirectory != null) {
+            myModuleModificationTrackers.computeIfAbsent(moduleDirectory, dir -> new SimpleModificationTracker())
+                    .incModificationCount();
+            if (structural) {
+                myModuleStructureModificationTrackers.computeIfAbsent(moduleDirectory, dir -> new SimpleModificationTracker())
+                        .incModificationCount();
+            }
+        } else {
+            myGlobalModificationTracker.incModificationCount();
+        }
+        if (structural) {
+            myModificationTracker.incModificationCount();
+        }
+    }
+
+    private void onFileChange(@NotNull VFileEvent event) {
+        if (event instanceof VFileContentChangeEvent && event.isFromSave()) {
+            return;
+        }
+        VirtualFile file = event.getFile();
+        if (file == null || !file.isValid()) {
+            return;
+        }
+        VirtualFile moduleDirectory = OdooModuleUtils.getContainingOdooModuleDirectory(file);
+        if (moduleDirectory != null) {
+            incModificationCount(moduleDirectory, file.isDirectory() || file.getFileType() == PythonFileType.INSTANCE);
+        } else if (file.getFileType() == PythonFileType.INSTANCE || (file.isDirectory() && isInProjectOrLibraries(file))) {
+            incModificationCount(null, true);
+        }
+    }
+
+    private boolean isInProjectOrLibraries(@NotNull VirtualFile file) {
+        ProjectFileIndex fileIndex = ProjectFileIndex.getInstance(myProject);
+        return fileIndex.isInContent(file) || fileIndex.isInLibrary(file);
+    }
+
+    private void onPsiChange(@NotNull PsiTreeChangeEvent event) {
+        if (event instanceof PsiTreeChangeEventImpl && ((PsiTreeChangeEventImpl) event).isGenericChange()) {
+            return;
+        }
+        PsiFile file = event.getFile();
+        if (file == null) {
+            PsiElement child = event.getChild();
+            if (child == null || child instanceof PyFile || child instanceof PsiDirectory) {
+                incModificationCount(null, true);
+            }
+            return;
+        }
+        VirtualFile moduleDirectory = OdooModuleUtils.getContainingOdooModuleDirectory(file.getVirtualFile());
+        if (moduleDirectory == null) {
+            if (file instanceof PyFile && file.isPhysical() && !isInsideFunctionBody(event.getParent())) {
+                incModificationCount(null, true);
+            }
+            return;
+        }
+        if (file instanceof PyFile) {
+            if (!isInsideFunctionBody(event.getParent())) {
+                incModificationCount(moduleDirectory, true);
+            }
+        } else {
+            incModificationCount(moduleDirectory, false);
+        }
+    }
+
+    private static boolean isInsideFunctionBody(@Nullable PsiElement element) {
+        PyFunction function = PsiTreeUtil.getParentOfType(element, PyFunction.class, false);
+        return function != null && PsiTreeUtil.isAncestor(function.getStatementList(), element, false);
+    }
+
+    @Override
+    public void dispose() {
+    }
+}
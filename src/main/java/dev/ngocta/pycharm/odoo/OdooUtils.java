@@ -2,16 +2,30 @@ package dev.ngocta.pycharm.odoo;
 
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.module.ModuleUtil;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.ModificationTracker;
+import com.intellij.openapi.util.RecursionGuard;
+import com.intellij.openapi.util.RecursionManager;
+import com.intellij.openapi.util.UserDataHolder;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.impl.source.resolve.FileContextUtil;
 import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.util.NotNullFunction;
+import com.intellij.util.NullableFunction;
+import dev.ngocta.pycharm.odoo.python.module.OdooModelScope;
+import dev.ngocta.pycharm.odoo.python.module.OdooModule;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class OdooUtils {
     private OdooUtils() {
@@ -51,4 +65,68 @@ public class OdooUtils {
         }
         return file.getOriginalFile();
     }
+
+    @NotNull
+    public static <T, P> T getParameterizedCachedValue(@NotNull PsiElement element,
+                                                       @Nullable P param,
+                                                       @NotNull NotNullFunction<P, T> f) {
+        T result = getNullableParameterizedCachedValue(element, param, f);
+        assert result != null;
+        return result;
+    }
+
+    @Nullable
+    public static <T, P> T getNullableParameterizedCachedValue(@NotNull PsiElement element,
+                                                               @Nullable P param,
+                                                               @NotNull NullableFunction<P, T> f) {
+        Project project = element.getProject();
+        return getNullableParameterizedCachedValue(element, project, OdooStructureModificationTracker.getInstance(project), param, f);
+    }
+
+    @NotNull
+    public static <T, P> T getParameterizedCachedValue(@NotNull OdooModule module,
+                                                       @Nullable P param,
+                                                       @NotNull NotNullFunction<P, T> f) {
+        T result = getNullableParameterizedCachedValue(module, module.getProject(), module.getModificationTracker(), param, f);
+        assert result != null;
+        return result;
+    }
+
+    @NotNull
+    public static <T, P> T getParameterizedCachedValue(@NotNull OdooModelScope scope,
+                                                       @Nullable P param,
+                                                       @NotNull NotNullFunction<P, T> f) {
+        T result = getNullableParameterizedCachedValue(scope, param, f);
+        assert result != null;
+        return result;
+    }
+
+    @Nullable
+    public static <T, P> T getNullableParameterizedCachedValue(@NotNull OdooModelScope scope,
+                                                               @Nullable P param,
+                                                               @NotNull NullableFunction<P, T> f) {
+        return getNullableParameterizedCachedValue(scope, scope.getProject(), scope.getModificationTracker(), param, f);
+    }
+
+    @Nullable
+    private static <T, P> T getNullableParameterizedCachedValue(@NotNull UserDataHolder holder,
+                                                                @NotNull Project project,
+                                                                @NotNull ModificationTracker dependency,
+                                                                @Nullable P param,
+                                                                @NotNull NullableFunction<P, T> f) {
+        CachedValuesManager manager = CachedValuesManager.getManager(project);
+        Map<Optional<P>, Optional<T>> cache = manager.getCachedValue(holder, manager.getKeyForClass(f.getClass()), () -> {
+            return CachedValueProvider.Result.create(new ConcurrentHashMap<>(), dependency);
+        }, false);
+        Optional<P> key = Optional.ofNullable(param);
+        Optional<T> value = cache.get(key);
+        if (value == null) {
+            RecursionGuard.StackStamp stamp = RecursionManager.markStack();
+            value = Optional.ofNullable(f.fun(param));
+            if (stamp.mayCacheNow()) {
+                cache.putIfAbsent(key, value);
+            }
+        }
+        return value.orElse(null);
+    }
 }
@@ -17,13 +17,16 @@ public class OdooCsvRecord extends FakePsiElement implements Navigatable {
     private final VirtualFile myFile;
     private final Project myProject;
     private final String myId;
+    private final int myTextOffset;
 
     public OdooCsvRecord(@NotNull VirtualFile file,
                          @NotNull Project project,
-                         @NotNull String id) {
+                         @NotNull String id,
+                         int textOffset) {
         myFile = file;
         myProject = project;
         myId = id;
+        myTextOffset = textOffset;
     }
 
     @Override
@@ -75,28 +78,29 @@ public class OdooCsvRecord extends FakePsiElement implements Navigatable {
 
     @Override
     public void navigate(boolean requestFocus) {
-        OdooCsvUtils.processRecordInCsvFile(myFile, myProject, (record, csvRecord) -> {
+        new OpenFileDescriptor(myProject, myFile, Math.max(getTextOffset(), 0)).navigate(requestFocus);
+    }
+
+    @Override
+    public int getTextOffset() {
+        if (myTextOffset >= 0) {
+            return myTextOffset;
+        }
+        Ref<Integer> offsetRef = Ref.create(-1);
+        OdooCsvUtils.processRecordInCsvFile(myFile, record -> {
             if (myId.equals(record.getId())) {
-                Navigatable navigatable = (new OpenFileDescriptor(myProject, myFile, (int) csvRecord.getParser().getCurrentLineNumber() - 1, 0));
-                navigatable.navigate(requestFocus);
+                offsetRef.set(record.getTextOffset());
                 return false;
             }
             return true;
         });
+        return offsetRef.get();
     }
 
     @Override
     @Nullable
     public TextRange getTextRange() {
-        Ref<TextRange> rangeRef = Ref.create();
-        OdooCsvUtils.processRecordInCsvFile(myFile, myProject, (record, csvRecord) -> {
-            if (myId.equals(record.getId())) {
-                int start = (int) csvRecord.getCharacterPosition();
-                rangeRef.set(new TextRange(start, start));
-                return false;
-            }
-            return true;
-        });
-        return rangeRef.get();
+        int offset = getTextOffset();
+        return offset >= 0 ? new TextRange(offset, offset) : null;
     }
 }
@@ -0,0 +1,122 @@
+package dev.ngocta.pycharm.odoo.csv;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Row scanner over the loaded text of a CSV file. Fields are kept as offsets and only decoded on request.
+ */
+class OdooCsvScanner {
+    private final CharSequence myText;
+    private final int myLength;
+    private int myPos = 0;
+    private int myRowStart = 0;
+    private int myFieldCount = 0;
+    private int[] myFields = new int[32];
+
+    OdooCsvScanner(@NotNull CharSequence text) {
+        myText = text;
+        myLength = text.length();
+        if (myLength > 0 && text.charAt(0) == '\uFEFF') {
+            myPos = 1;
+        }
+    }
+
+    boolean nextRow() {
+        while (myPos < myLength && isLineBreak(myText.charAt(myPos))) {
+            myPos++;
+        }
+        if (myPos >= myLength) {
+            return false;
+        }
+        myRowStart = myPos;
+        myFieldCount = 0;
+        while (true) {
+            int start = myPos;
+            if (myPos < myLength && myText.charAt(myPos) == '"') {
+                myPos++;
+                while (myPos < myLength) {
+                    if (myText.charAt(myPos++) == '"') {
+                        if (myPos < myLength && myText.charAt(myPos) == '"') {
+                            myPos++;
+                        } else {
+                            break;
+                        }
+                    }
+                }
+            }
+            while (myPos < myLength && myText.charAt(myPos) != ',' && !isLineBreak(myText.charAt(myPos))) {
+                myPos++;
+            }
+            addField(start, myPos);
+            if (myPos < myLength && myText.charAt(myPos) == ',') {
+                myPos++;
+                continue;
+            }
+            if (myPos < myLength && myText.charAt(myPos) == '\r') {
+                myPos++;
+            }
+            if (myPos < myLength && myText.charAt(myPos) == '\n') {
+                myPos++;
+            }
+            return true;
+        }
+    }
+
+    int getRowOffset() {
+        return myRowStart;
+    }
+
+    int getFieldCount() {
+        return myFieldCount;
+    }
+
+    int indexOfField(@NotNull String value) {
+        for (int i = 0; i < myFieldCount; i++) {
+            if (value.equals(getField(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @NotNull
+    String getField(int index) {
+        int start = myFields[index * 2];
+        int end = myFields[index * 2 + 1];
+        if (start == end || myText.charAt(start) != '"') {
+            return myText.subSequence(start, end).toString();
+        }
+        StringBuilder builder = new StringBuilder(end - start);
+        int pos = start + 1;
+        while (pos < end) {
+            char c = myText.charAt(pos++);
+            if (c == '"') {
+                if (pos < end && myText.charAt(pos) == '"') {
+                    pos++;
+                } else {
+                    builder.append(myText, pos, end);
+                    break;
+                }
+            }
+            builder.append(c);
+        }
+        return builder.toString();
+    }
+
+    private void addField(int start,
+                          int end) {
+        int base = myFieldCount * 2;
+        if (base + 2 > myFields.length) {
+            myFields = Arrays.copyOf(myFields, myFields.length * 2);
+        }
+        myFields[base] = start;
+        myFields[base + 1] = end;
+        myFieldCount++;
+    }
+
+    private static boolean isLineBreak(char c) {
+        return c == '\n' || c == '\r';
+    }
+}
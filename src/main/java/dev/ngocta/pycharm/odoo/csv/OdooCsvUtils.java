@@ -1,17 +1,14 @@
 package dev.ngocta.pycharm.odoo.csv;
 
-import com.intellij.openapi.project.Project;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.fileEditor.FileDocumentManager;
+import com.intellij.openapi.fileEditor.impl.LoadTextUtil;
 import com.intellij.openapi.vfs.VirtualFile;
-import com.intellij.util.PairProcessor;
+import com.intellij.util.Processor;
 import dev.ngocta.pycharm.odoo.data.OdooRecord;
-import dev.ngocta.pycharm.odoo.python.module.OdooModule;
 import dev.ngocta.pycharm.odoo.python.module.OdooModuleUtils;
-import org.apache.commons.csv.CSVFormat;
-import org.apache.commons.csv.CSVParser;
-import org.apache.commons.csv.CSVRecord;
 import org.jetbrains.annotations.NotNull;
-
-import java.io.InputStream;
+import org.jetbrains.annotations.Nullable;
 
 public class OdooCsvUtils {
     private OdooCsvUtils() {
@@ -23,30 +20,40 @@ public class OdooCsvUtils {
     }
 
     public static void processRecordInCsvFile(@NotNull VirtualFile file,
-                                              @NotNull Project project,
-                                              @NotNull PairProcessor<OdooRecord, CSVRecord> processor) {
-        OdooModule module = OdooModuleUtils.getContainingOdooModule(file, project);
-        if (module == null) {
+                                              @NotNull Processor<OdooRecord> processor) {
+        VirtualFile moduleDirectory = OdooModuleUtils.getContainingOdooModuleDirectory(file);
+        if (moduleDirectory == null) {
+            return;
+        }
+        Document document = FileDocumentManager.getInstance().getCachedDocument(file);
+        CharSequence text = document != null ? document.getImmutableCharSequence() : LoadTextUtil.loadText(file);
+        processRecordInCsvText(text, file.getNameWithoutExtension(), moduleDirectory.getName(), file, processor);
+    }
+
+    public static void processRecordInCsvText(@NotNull CharSequence text,
+                                              @NotNull String model,
+                                              @NotNull String moduleName,
+                                              @Nullable VirtualFile file,
+                                              @NotNull Processor<OdooRecord> processor) {
+        OdooCsvScanner scanner = new OdooCsvScanner(text);
+        if (!scanner.nextRow()) {
+            return;
+        }
+        int idIndex = scanner.indexOfField("id");
+        if (idIndex < 0) {
             return;
         }
-        try {
-            InputStream inputStream = file.getInputStream();
-            CSVParser parser = CSVParser.parse(inputStream, file.getCharset(), CSVFormat.DEFAULT.withHeader());
-            if (!parser.getHeaderNames().contains("id")) {
-                return;
+        while (scanner.nextRow()) {
+            if (scanner.getFieldCount() <= idIndex) {
+                continue;
             }
-            String model = file.getNameWithoutExtension();
-            String moduleName = module.getName();
-            for (CSVRecord csvRecord : parser) {
-                String id = csvRecord.get("id");
-                if (id != null) {
-                    OdooRecord record = new OdooRecord(id, model, moduleName, null, file);
-                    if (!processor.process(record, csvRecord)) {
-                        break;
-                    }
+            String id = scanner.getField(idIndex);
+            if (!id.isEmpty()) {
+                OdooRecord record = new OdooRecord(id, model, moduleName, null, file, scanner.getRowOffset());
+                if (!processor.process(record)) {
+                    break;
                 }
             }
-        } catch (Exception ignored) {
         }
     }
 }
@@ -1,100 +1,76 @@
 package dev.ngocta.pycharm.odoo.data;
 
+import com.intellij.ide.highlighter.XmlFileType;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiElement;
-import com.intellij.psi.PsiFile;
-import com.intellij.psi.PsiManager;
 import com.intellij.psi.search.GlobalSearchScope;
-import com.intellij.psi.xml.XmlFile;
 import com.intellij.util.ArrayUtil;
 import com.intellij.util.Processor;
 import com.intellij.util.indexing.*;
 import com.intellij.util.io.DataExternalizer;
 import com.intellij.util.io.EnumeratorStringDescriptor;
 import com.intellij.util.io.KeyDescriptor;
-import com.jetbrains.python.psi.PyClass;
-import com.jetbrains.python.psi.PyElementVisitor;
-import com.jetbrains.python.psi.PyFile;
+import com.jetbrains.python.PythonFileType;
 import dev.ngocta.pycharm.odoo.OdooNames;
 import dev.ngocta.pycharm.odoo.csv.OdooCsvUtils;
+import dev.ngocta.pycharm.odoo.python.model.OdooModelFileInfo;
 import dev.ngocta.pycharm.odoo.python.model.OdooModelInfo;
 import dev.ngocta.pycharm.odoo.python.model.OdooModelUtils;
 import dev.ngocta.pycharm.odoo.python.module.OdooModule;
 import dev.ngocta.pycharm.odoo.python.module.OdooModuleUtils;
-import dev.ngocta.pycharm.odoo.xml.OdooXmlUtils;
-import dev.ngocta.pycharm.odoo.xml.dom.OdooDomDataFile;
-import dev.ngocta.pycharm.odoo.xml.dom.OdooDomRecordLike;
+import dev.ngocta.pycharm.odoo.xml.OdooXmlFileInfo;
 import org.jetbrains.annotations.NotNull;
 
-import java.io.DataInput;
-import java.io.DataOutput;
-import java.io.IOException;
 import java.util.*;
 
-public class OdooExternalIdIndex extends FileBasedIndexExtension<String, OdooRecord> {
-    public static final ID<String, OdooRecord> NAME = ID.create("odoo.external.id");
+public class OdooExternalIdIndex extends FileBasedIndexExtension<String, OdooRecordIndexValue> {
+    public static final ID<String, OdooRecordIndexValue> NAME = ID.create("odoo.external.id");
 
     @NotNull
     @Override
-    public ID<String, OdooRecord> getName() {
+    public ID<String, OdooRecordIndexValue> getName() {
         return NAME;
     }
 
     @NotNull
     @Override
-    public DataIndexer<String, OdooRecord, FileContent> getIndexer() {
+    public DataIndexer<String, OdooRecordIndexValue, FileContent> getIndexer() {
         return inputData -> {
-            Map<String, OdooRecord> result = new HashMap<>();
-            Project project = inputData.getProject();
+            Map<String, OdooRecordIndexValue> result = new HashMap<>();
             VirtualFile file = inputData.getFile();
             VirtualFile moduleDirectory = OdooModuleUtils.getContainingOdooModuleDirectory(file);
             if (moduleDirectory == null) {
                 return result;
             }
             List<OdooRecord> records = new LinkedList<>();
-            PsiFile psiFile = PsiManager.getInstance(project).findFile(file);
-            if (psiFile instanceof XmlFile) {
-                OdooDomDataFile root = OdooXmlUtils.getOdooDataDomFile(psiFile);
-                if (root == null) {
-                    return result;
-                }
-                List<OdooDomRecordLike> items = root.getAllRecordLikeItems();
-                for (OdooDomRecordLike item : items) {
-                    OdooRecord record = item.getRecord();
-                    if (record != null) {
-                        String id = record.getQualifiedId().trim();
-                        if (!id.isEmpty()) {
-                            records.add(record);
-                        }
-                    }
-                }
-            } else if (OdooCsvUtils.isCsvFile(file)) {
-                OdooCsvUtils.processRecordInCsvFile(file, project, (record, csvRecord) -> {
+            if (inputData.getFileType() instanceof PythonFileType) {
+                for (OdooModelInfo info : OdooModelFileInfo.getInfo(inputData).getModels()) {
+                    String id = OdooModelUtils.getExternalIdOfModel(info.getName());
+                    OdooRecord record = new OdooRecord(id, OdooNames.IR_MODEL, moduleDirectory.getName(), null, null, info.getTextOffset());
                     records.add(record);
-                    return true;
-                });
-            } else if (psiFile instanceof PyFile) {
-                psiFile.acceptChildren(new PyElementVisitor() {
-                    @Override
-                    public void visitPyClass(PyClass cls) {
-                        super.visitPyClass(cls);
-                        OdooModelInfo info = OdooModelInfo.getInfo(cls);
-                        if (info != null) {
-                            String id = OdooModelUtils.getExternalIdOfModel(info.getName());
-                            OdooRecord record = new OdooRecord(id, OdooNames.IR_MODEL, moduleDirectory.getName(), null, null);
-                            records.add(record);
-                        }
-                    }
-                });
+                }
+                return toIndexResult(records);
             }
-            for (OdooRecord record : records) {
-                result.put(record.getQualifiedId(), record.withoutDataFile());
+            if (inputData.getFileType() instanceof XmlFileType) {
+                records.addAll(OdooXmlFileInfo.getInfo(inputData).getRecords());
+            } else if (OdooCsvUtils.isCsvFile(file)) {
+                String model = file.getNameWithoutExtension();
+                OdooCsvUtils.processRecordInCsvText(inputData.getContentAsText(), model, moduleDirectory.getName(), null, records::add);
             }
-            return result;
+            return toIndexResult(records);
         };
     }
 
+    @NotNull
+    private static Map<String, OdooRecordIndexValue> toIndexResult(@NotNull List<OdooRecord> records) {
+        Map<String, OdooRecordIndexValue> result = new HashMap<>();
+        for (OdooRecord record : records) {
+            result.put(record.getQualifiedId(), OdooRecordIndexValue.create(record));
+        }
+        return result;
+    }
+
     @NotNull
     @Override
     public KeyDescriptor<String> getKeyDescriptor() {
@@ -103,39 +79,13 @@ public class OdooExternalIdIndex extends FileBasedIndexExtension<String, OdooRec
 
     @NotNull
     @Override
-    public DataExternalizer<OdooRecord> getValueExternalizer() {
-        return new DataExternalizer<OdooRecord>() {
-            @Override
-            public void save(@NotNull DataOutput out,
-                             OdooRecord value) throws IOException {
-                out.writeUTF(value.getId());
-                out.writeUTF(value.getModel());
-                out.writeUTF(value.getModule());
-                out.writeBoolean(value.getExtraInfo() != null);
-                if (value.getExtraInfo() instanceof OdooRecordViewInfo) {
-                    OdooRecordViewInfoExternalizer.INSTANCE.save(out, (OdooRecordViewInfo) value.getExtraInfo());
-                }
-            }
-
-            @Override
-            public OdooRecord read(@NotNull DataInput in) throws IOException {
-                String id = in.readUTF();
-                String model = in.readUTF();
-                String module = in.readUTF();
-                OdooRecordExtraInfo extraInfo = null;
-                if (in.readBoolean()) {
-                    if (OdooNames.IR_UI_VIEW.equals(model)) {
-                        extraInfo = OdooRecordViewInfoExternalizer.INSTANCE.read(in);
-                    }
-                }
-                return new OdooRecord(id, model, module, extraInfo, null);
-            }
-        };
+    public DataExternalizer<OdooRecordIndexValue> getValueExternalizer() {
+        return new OdooRecordIndexValueExternalizer(OdooRecordNameEnumerator.getInstance());
     }
 
     @Override
     public int getVersion() {
-        return 11;
+        return 18;
     }
 
     @NotNull
@@ -143,7 +93,8 @@ public class OdooExternalIdIndex extends FileBasedIndexExtension<String, OdooRec
     public FileBasedIndex.InputFilter getInputFilter() {
         return file -> {
             String extension = file.getExtension();
-            return extension != null && ArrayUtil.contains(extension.toLowerCase().trim(), "csv", "xml", "py");
+            return extension != null && ArrayUtil.contains(extension.toLowerCase().trim(), "csv", "xml", "py")
+                    && OdooModuleUtils.isInOdooModule(file);
         };
     }
 
@@ -167,7 +118,7 @@ public class OdooExternalIdIndex extends FileBasedIndexExtension<String, OdooRec
         FileBasedIndex index = FileBasedIndex.getInstance();
         for (String id : ids) {
             if (!index.processValues(NAME, id, null, (file, value) -> {
-                OdooRecord record = value.withDataFile(file);
+                OdooRecord record = value.toRecord(id, file);
                 return processor.process(record);
             }, scope)) {
                 return false;
@@ -6,8 +6,10 @@ import com.intellij.psi.NavigatablePsiElement;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiManager;
+import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.psi.xml.XmlElement;
 import com.intellij.psi.xml.XmlFile;
+import com.intellij.psi.xml.XmlTag;
 import com.jetbrains.python.psi.PyClass;
 import com.jetbrains.python.psi.PyFile;
 import com.jetbrains.python.psi.PyUtil;
@@ -36,12 +38,22 @@ public class OdooRecord {
     private final String myOriginModule;
     private final OdooRecordExtraInfo myExtraInfo;
     private final VirtualFile myDataFile;
+    private final int myTextOffset;
 
     public OdooRecord(@NotNull String id,
                       @NotNull String model,
                       @NotNull String module,
                       @Nullable OdooRecordExtraInfo extraInfo,
                       @Nullable VirtualFile dataFile) {
+        this(id, model, module, extraInfo, dataFile, -1);
+    }
+
+    public OdooRecord(@NotNull String id,
+                      @NotNull String model,
+                      @NotNull String module,
+                      @Nullable OdooRecordExtraInfo extraInfo,
+                      @Nullable VirtualFile dataFile,
+                      int textOffset) {
         myId = id;
         myModel = model;
         myModule = module;
@@ -57,6 +69,7 @@ public class OdooRecord {
         }
         myExtraInfo = extraInfo;
         myDataFile = dataFile;
+        myTextOffset = textOffset;
     }
 
     @NotNull
@@ -99,17 +112,27 @@ public class OdooRecord {
         return myDataFile;
     }
 
+    public int getTextOffset() {
+        return myTextOffset;
+    }
+
     public List<PsiElement> getElements(@NotNull Project project) {
         if (myDataFile == null || !myDataFile.isValid()) {
             return Collections.emptyList();
         }
         if (OdooCsvUtils.isCsvFile(myDataFile)) {
-            return Collections.singletonList(new OdooCsvRecord(myDataFile, project, myId));
+            return Collections.singletonList(new OdooCsvRecord(myDataFile, project, myId, myTextOffset));
         }
         PsiFile file = PsiManager.getInstance(project).findFile(myDataFile);
         if (file == null) {
             return Collections.emptyList();
         }
+        if (file instanceof XmlFile && myTextOffset >= 0) {
+            XmlTag tag = PsiTreeUtil.getParentOfType(file.findElementAt(myTextOffset), XmlTag.class, false);
+            if (tag != null && myId.equals(tag.getAttributeValue("id"))) {
+                return Collections.singletonList(tag);
+            }
+        }
         List<PsiElement> result = PyUtil.getParameterizedCachedValue(file, this, param -> {
             List<PsiElement> elements = new LinkedList<>();
             if (file instanceof XmlFile) {
@@ -167,7 +190,7 @@ public class OdooRecord {
         if (Objects.equals(myDataFile, file)) {
             return this;
         }
-        return new OdooRecord(myId, myModel, myModule, myExtraInfo, file);
+        return new OdooRecord(myId, myModel, myModule, myExtraInfo, file, myTextOffset);
     }
 
     @NotNull
@@ -0,0 +1,97 @@
+package dev.ngocta.pycharm.odoo.data;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import com.intellij.openapi.vfs.VirtualFile;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+
+public class OdooRecordIndexValue {
+    private static final Interner<String> INTERNER = Interners.newWeakInterner();
+
+    private final String myModel;
+    private final String myForeignModule;
+    private final boolean myQualified;
+    private final OdooRecordExtraInfo myExtraInfo;
+    private final int myTextOffset;
+
+    OdooRecordIndexValue(@NotNull String model,
+                         @Nullable String foreignModule,
+                         boolean qualified,
+                         @Nullable OdooRecordExtraInfo extraInfo,
+                         int textOffset) {
+        myModel = model;
+        myForeignModule = foreignModule;
+        myQualified = qualified;
+        myExtraInfo = extraInfo;
+        myTextOffset = textOffset;
+    }
+
+    @NotNull
+    String getModel() {
+        return myModel;
+    }
+
+    @Nullable
+    String getForeignModule() {
+        return myForeignModule;
+    }
+
+    boolean isQualified() {
+        return myQualified;
+    }
+
+    @Nullable
+    OdooRecordExtraInfo getExtraInfo() {
+        return myExtraInfo;
+    }
+
+    int getTextOffset() {
+        return myTextOffset;
+    }
+
+    @NotNull
+    static OdooRecordIndexValue create(@NotNull OdooRecord record) {
+        boolean qualified = !record.getId().equals(record.getUnqualifiedId());
+        String foreignModule = record.getModule().equals(record.getOriginModule()) ? null : record.getModule();
+        return new OdooRecordIndexValue(record.getModel(), foreignModule, qualified, record.getExtraInfo(), record.getTextOffset());
+    }
+
+    @NotNull
+    OdooRecord toRecord(@NotNull String qualifiedId,
+                        @Nullable VirtualFile dataFile) {
+        int dot = qualifiedId.indexOf('.');
+        if (dot < 0) {
+            String module = myForeignModule != null ? myForeignModule : "";
+            return new OdooRecord(qualifiedId, myModel, module, myExtraInfo, dataFile, myTextOffset);
+        }
+        String originModule = intern(qualifiedId.substring(0, dot));
+        String id = myQualified ? qualifiedId : qualifiedId.substring(dot + 1);
+        String module = myForeignModule != null ? myForeignModule : originModule;
+        return new OdooRecord(id, myModel, module, myExtraInfo, dataFile, myTextOffset);
+    }
+
+    @NotNull
+    static String intern(@NotNull String value) {
+        return INTERNER.intern(value);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OdooRecordIndexValue that = (OdooRecordIndexValue) o;
+        return myQualified == that.myQualified &&
+                myTextOffset == that.myTextOffset &&
+                myModel.equals(that.myModel) &&
+                Objects.equals(myForeignModule, that.myForeignModule) &&
+                Objects.equals(myExtraInfo, that.myExtraInfo);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(myModel, myForeignModule, myQualified, myExtraInfo, myTextOffset);
+    }
+}
@@ -0,0 +1,98 @@
+package dev.ngocta.pycharm.odoo.data;
+
+import com.intellij.util.io.DataEnumerator;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+class OdooRecordIndexValueExternalizer implements DataExternalizer<OdooRecordIndexValue> {
+    private static final int QUALIFIED = 1;
+    private static final int FOREIGN_MODULE = 2;
+    private static final int VIEW_INFO = 4;
+
+    private final DataEnumerator<String> myNames;
+
+    OdooRecordIndexValueExternalizer(@NotNull DataEnumerator<String> names) {
+        myNames = names;
+    }
+
+    @Override
+    public void save(@NotNull DataOutput out,
+                     OdooRecordIndexValue value) throws IOException {
+        OdooRecordExtraInfo extraInfo = value.getExtraInfo();
+        int flags = 0;
+        if (value.isQualified()) {
+            flags |= QUALIFIED;
+        }
+        if (value.getForeignModule() != null) {
+            flags |= FOREIGN_MODULE;
+        }
+        if (extraInfo instanceof OdooRecordViewInfo) {
+            flags |= VIEW_INFO;
+        }
+        out.writeByte(flags);
+        writeName(out, value.getModel());
+        if (value.getForeignModule() != null) {
+            writeName(out, value.getForeignModule());
+        }
+        if (extraInfo instanceof OdooRecordViewInfo) {
+            OdooRecordViewInfo viewInfo = (OdooRecordViewInfo) extraInfo;
+            writeNullableName(out, viewInfo.getViewType());
+            writeNullableName(out, viewInfo.getViewModel());
+            writeNullableName(out, viewInfo.getInheritId());
+        }
+        DataInputOutputUtil.writeINT(out, value.getTextOffset() + 1);
+    }
+
+    @Override
+    public OdooRecordIndexValue read(@NotNull DataInput in) throws IOException {
+        int flags = in.readByte();
+        String model = readName(in);
+        String foreignModule = null;
+        if ((flags & FOREIGN_MODULE) != 0) {
+            foreignModule = readName(in);
+        }
+        OdooRecordExtraInfo extraInfo = null;
+        if ((flags & VIEW_INFO) != 0) {
+            String viewType = readNullableName(in);
+            String viewModel = readNullableName(in);
+            String inheritId = readNullableName(in);
+            extraInfo = new OdooRecordViewInfo(viewType, viewModel, inheritId);
+        }
+        int textOffset = DataInputOutputUtil.readINT(in) - 1;
+        return new OdooRecordIndexValue(model, foreignModule, (flags & QUALIFIED) != 0, extraInfo, textOffset);
+    }
+
+    private void writeName(@NotNull DataOutput out,
+                           @NotNull String name) throws IOException {
+        DataInputOutputUtil.writeINT(out, myNames.enumerate(name));
+    }
+
+    @NotNull
+    private String readName(@NotNull DataInput in) throws IOException {
+        int id = DataInputOutputUtil.readINT(in);
+        String name = myNames.valueOf(id);
+        if (name == null) {
+            throw new IOException("Unknown name id: " + id);
+        }
+        return OdooRecordIndexValue.intern(name);
+    }
+
+    private void writeNullableName(@NotNull DataOutput out,
+                                   @Nullable String name) throws IOException {
+        out.writeBoolean(name != null);
+        if (name != null) {
+            writeName(out, name);
+        }
+    }
+
+    @Nullable
+    private String readNullableName(@NotNull DataInput in) throws IOException {
+        return in.readBoolean() ? readName(in) : null;
+    }
+}
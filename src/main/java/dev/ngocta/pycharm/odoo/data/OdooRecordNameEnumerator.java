@@ -0,0 +1,72 @@
+package dev.ngocta.pycharm.odoo.data;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.PathManager;
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.io.DataEnumerator;
+import com.intellij.util.io.IOUtil;
+import com.intellij.util.io.PersistentStringEnumerator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Persistent table of the models, modules and view names stored in {@link OdooExternalIdIndex} values, so that each
+ * value stores small ids instead of strings. The table lives next to the indexes and is dropped together with them.
+ */
+public class OdooRecordNameEnumerator implements DataEnumerator<String>, Disposable {
+    private static final Logger LOG = Logger.getInstance(OdooRecordNameEnumerator.class);
+
+    private final Path myFile = Paths.get(PathManager.getSystemPath(), "index", "odoo", "record.names");
+    private PersistentStringEnumerator myEnumerator;
+
+    @NotNull
+    public static OdooRecordNameEnumerator getInstance() {
+        return ServiceManager.getService(OdooRecordNameEnumerator.class);
+    }
+
+    @Override
+    public int enumerate(@Nullable String name) throws IOException {
+        return getEnumerator().enumerate(name);
+    }
+
+    @Nullable
+    @Override
+    public String valueOf(int id) throws IOException {
+        return getEnumerator().valueOf(id);
+    }
+
+    @NotNull
+    private synchronized PersistentStringEnumerator getEnumerator() throws IOException {
+        if (myEnumerator == null) {
+            Files.createDirectories(myFile.getParent());
+            try {
+                myEnumerator = new PersistentStringEnumerator(myFile);
+            } catch (IOException e) {
+                LOG.warn("Recreating corrupted " + myFile, e);
+                IOUtil.deleteAllFilesStartingWith(myFile.toFile());
+                myEnumerator = new PersistentStringEnumerator(myFile);
+                FileBasedIndex.getInstance().requestRebuild(OdooExternalIdIndex.NAME);
+            }
+        }
+        return myEnumerator;
+    }
+
+    @Override
+    public synchronized void dispose() {
+        if (myEnumerator != null) {
+            try {
+                myEnumerator.close();
+            } catch (IOException e) {
+                LOG.warn(e);
+            }
+            myEnumerator = null;
+        }
+    }
+}
@@ -14,6 +14,7 @@ import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.util.indexing.*;
 import com.intellij.util.io.EnumeratorStringDescriptor;
 import com.intellij.util.io.KeyDescriptor;
+import dev.ngocta.pycharm.odoo.OdooUtils;
 import dev.ngocta.pycharm.odoo.python.module.OdooModule;
 import dev.ngocta.pycharm.odoo.python.module.OdooModuleUtils;
 import org.jetbrains.annotations.NotNull;
@@ -96,7 +97,9 @@ public class OdooJSModuleIndex extends ScalarIndexExtension<String> {
     public static Collection<String> getAvailableModuleNames(@NotNull PsiElement anchor) {
         OdooModule module = OdooModuleUtils.getContainingOdooModule(anchor);
         if (module != null) {
-            return getAllModuleNames(module.getOdooModuleWithDependenciesScope());
+            return OdooUtils.getParameterizedCachedValue(module, null, param -> {
+                return Collections.unmodifiableCollection(getAllModuleNames(module.getOdooModuleWithDependenciesScope()));
+            });
         }
         return getAllModuleNames(anchor.getProject());
     }
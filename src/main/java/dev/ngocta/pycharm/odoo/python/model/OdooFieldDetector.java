@@ -0,0 +1,155 @@
+package dev.ngocta.pycharm.odoo.python.model;
+
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.QualifiedName;
+import com.intellij.util.ArrayUtil;
+import com.jetbrains.python.psi.*;
+import dev.ngocta.pycharm.odoo.OdooNames;
+import dev.ngocta.pycharm.odoo.OdooSettings;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+public class OdooFieldDetector {
+    private OdooFieldDetector() {
+    }
+
+    @Nullable
+    public static String getFieldTypeName(@NotNull PyCallExpression callExpression) {
+        PyExpression callee = callExpression.getCallee();
+        if (!(callee instanceof PyReferenceExpression)) {
+            return null;
+        }
+        PyReferenceExpression calleeRef = (PyReferenceExpression) callee;
+        String calleeName = calleeRef.getName();
+        if (calleeName == null) {
+            return null;
+        }
+        if (ArrayUtil.contains(calleeName, OdooNames.FIELD_TYPES)) {
+            return calleeName;
+        }
+        if (!calleeRef.isQualified()) {
+            PsiFile file = callExpression.getContainingFile();
+            if (file instanceof PyFile) {
+                String typeName = getFieldClassAliases((PyFile) file).get(calleeName);
+                if (typeName != null) {
+                    return typeName;
+                }
+            }
+        }
+        return getCustomFieldTypeName(calleeRef);
+    }
+
+    /**
+     * Custom field classes are configured as {@code qualified.ClassName} or {@code qualified.ClassName:BaseType}. Without
+     * an explicit base type, a known field type ending the class name is used, e.g. {@code Many2one} for
+     * {@code PartnerMany2one}.
+     */
+    @Nullable
+    private static String getCustomFieldTypeName(@NotNull PyReferenceExpression calleeRef) {
+        QualifiedName calleeQName = calleeRef.asQualifiedName();
+        for (String customClass : OdooSettings.getInstance().getCustomFieldClasses()) {
+            String baseType = null;
+            int idx = customClass.indexOf(':');
+            if (idx >= 0) {
+                baseType = customClass.substring(idx + 1).trim();
+                customClass = customClass.substring(0, idx).trim();
+            }
+            QualifiedName customQName = QualifiedName.fromDottedString(customClass);
+            if ((calleeQName != null && calleeQName.equals(customQName)) || customClass.equals(calleeRef.getName())) {
+                if (baseType == null || baseType.isEmpty()) {
+                    baseType = guessBaseFieldTypeName(customQName.getLastComponent());
+                }
+                return baseType;
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    private static String guessBaseFieldTypeName(@Nullable String className) {
+        if (className == null) {
+            return null;
+        }
+        String result = className;
+        int matchLength = 0;
+        for (String fieldType : OdooNames.FIELD_TYPES) {
+            if (className.endsWith(fieldType) && fieldType.length() > matchLength) {
+                result = fieldType;
+                matchLength = fieldType.length();
+            }
+        }
+        return result;
+    }
+
+    @NotNull
+    private static Map<String, String> getFieldClassAliases(@NotNull PyFile file) {
+        return CachedValuesManager.getCachedValue(file, () -> {
+            Map<String, String> aliases = getFieldClassAliasesInner(file);
+            return CachedValueProvider.Result.create(aliases, file);
+        });
+    }
+
+    @NotNull
+    private static Map<String, String> getFieldClassAliasesInner(@NotNull PyFile file) {
+        Map<String, String> aliases = new HashMap<>();
+        for (PyFromImportStatement fromImport : file.getFromImports()) {
+            QualifiedName sourceQName = fromImport.getImportSourceQName();
+            if (sourceQName == null
+                    || (!OdooNames.ODOO_FIELDS.equals(sourceQName.toString())
+                    && !OdooNames.OPENERP_FIELDS.equals(sourceQName.toString()))) {
+                continue;
+            }
+            if (fromImport.isStarImport()) {
+                for (String fieldType : OdooNames.FIELD_TYPES) {
+                    aliases.putIfAbsent(fieldType, fieldType);
+                }
+                continue;
+            }
+            for (PyImportElement importElement : fromImport.getImportElements()) {
+                QualifiedName importedQName = importElement.getImportedQName();
+                String visibleName = importElement.getVisibleName();
+                if (importedQName == null || visibleName == null) {
+                    continue;
+                }
+                String importedName = importedQName.getLastComponent();
+                if (ArrayUtil.contains(importedName, OdooNames.FIELD_TYPES)) {
+                    aliases.put(visibleName, importedName);
+                }
+            }
+        }
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (PyClass cls : file.getTopLevelClasses()) {
+                String name = cls.getName();
+                if (name == null || aliases.containsKey(name)) {
+                    continue;
+                }
+                for (PyExpression superClassExpression : cls.getSuperClassExpressions()) {
+                    if (superClassExpression instanceof PyReferenceExpression) {
+                        PyReferenceExpression superClassRef = (PyReferenceExpression) superClassExpression;
+                        String superClassName = superClassRef.getName();
+                        String typeName = null;
+                        if (ArrayUtil.contains(superClassName, OdooNames.FIELD_TYPES)) {
+                            typeName = superClassName;
+                        } else if (!superClassRef.isQualified()) {
+                            typeName = aliases.get(superClassName);
+                        }
+                        if (typeName != null) {
+                            aliases.put(name, typeName);
+                            changed = true;
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+        return aliases.isEmpty() ? Collections.emptyMap() : aliases;
+    }
+}
@@ -2,52 +2,45 @@ package dev.ngocta.pycharm.odoo.python.model;
 
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
 import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.util.indexing.*;
 import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
 import com.intellij.util.io.EnumeratorStringDescriptor;
 import com.intellij.util.io.KeyDescriptor;
-import com.intellij.util.io.VoidDataExternalizer;
 import com.jetbrains.python.psi.PyClass;
-import com.jetbrains.python.psi.PyElementVisitor;
+import com.jetbrains.python.psi.PyFile;
 import com.jetbrains.python.psi.PyTargetExpression;
+import dev.ngocta.pycharm.odoo.OdooUtils;
 import dev.ngocta.pycharm.odoo.python.module.OdooModule;
 import dev.ngocta.pycharm.odoo.python.module.OdooModuleUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.*;
 
-public class OdooFieldIndex extends FileBasedIndexExtension<String, Void> {
-    public static final ID<String, Void> NAME = ID.create("odoo.field");
+public class OdooFieldIndex extends FileBasedIndexExtension<String, List<OdooFieldInfo>> {
+    public static final ID<String, List<OdooFieldInfo>> NAME = ID.create("odoo.field");
 
     @NotNull
     @Override
-    public ID<String, Void> getName() {
+    public ID<String, List<OdooFieldInfo>> getName() {
         return NAME;
     }
 
     @NotNull
     @Override
-    public DataIndexer<String, Void, FileContent> getIndexer() {
+    public DataIndexer<String, List<OdooFieldInfo>, FileContent> getIndexer() {
         return inputData -> {
-            Map<String, Void> result = new HashMap<>();
-            inputData.getPsiFile().acceptChildren(new PyElementVisitor() {
-                @Override
-                public void visitPyClass(PyClass cls) {
-                    super.visitPyClass(cls);
-                    OdooModelInfo clsInfo = OdooModelInfo.getInfo(cls);
-                    if (clsInfo != null) {
-                        List<PyTargetExpression> attributes = cls.getClassAttributes();
-                        for (PyTargetExpression attribute : attributes) {
-                            OdooFieldInfo info = OdooFieldInfo.getInfo(attribute);
-                            if (info != null && attribute.getName() != null) {
-                                result.put(attribute.getName(), null);
-                            }
-                        }
-                    }
-                }
-            });
+            Map<String, List<OdooFieldInfo>> result = new HashMap<>();
+            for (OdooFieldInfo info : OdooModelFileInfo.getInfo(inputData).getFields()) {
+                result.computeIfAbsent(info.getName(), k -> new LinkedList<>()).add(info);
+            }
             return result;
         };
     }
@@ -60,13 +53,32 @@ public class OdooFieldIndex extends FileBasedIndexExtension<String, Void> {
 
     @NotNull
     @Override
-    public DataExternalizer<Void> getValueExternalizer() {
-        return VoidDataExternalizer.INSTANCE;
+    public DataExternalizer<List<OdooFieldInfo>> getValueExternalizer() {
+        return new DataExternalizer<List<OdooFieldInfo>>() {
+            @Override
+            public void save(@NotNull DataOutput out,
+                             List<OdooFieldInfo> value) throws IOException {
+                DataInputOutputUtil.writeINT(out, value.size());
+                for (OdooFieldInfo info : value) {
+                    OdooFieldInfoExternalizer.INSTANCE.save(out, info);
+                }
+            }
+
+            @Override
+            public List<OdooFieldInfo> read(@NotNull DataInput in) throws IOException {
+                int size = DataInputOutputUtil.readINT(in);
+                List<OdooFieldInfo> infos = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    infos.add(OdooFieldInfoExternalizer.INSTANCE.read(in));
+                }
+                return infos;
+            }
+        };
     }
 
     @Override
     public int getVersion() {
-        return 2;
+        return 5;
     }
 
     @NotNull
@@ -98,8 +110,92 @@ public class OdooFieldIndex extends FileBasedIndexExtension<String, Void> {
     public static Collection<String> getAvailableFieldNames(@NotNull PsiElement anchor) {
         OdooModule module = OdooModuleUtils.getContainingOdooModule(anchor);
         if (module != null) {
-            return getAllFieldNames(anchor.getProject(), module.getOdooModuleWithDependenciesScope());
+            return OdooUtils.getParameterizedCachedValue(module, null, param -> {
+                return Collections.unmodifiableCollection(getAllFieldNames(module.getProject(), module.getOdooModuleWithDependenciesScope()));
+            });
         }
         return Collections.emptyList();
     }
+
+    @NotNull
+    public static List<OdooFieldInfo> getFieldInfos(@NotNull String name,
+                                                    @NotNull GlobalSearchScope scope) {
+        List<OdooFieldInfo> result = new LinkedList<>();
+        FileBasedIndex.getInstance().processValues(NAME, name, null, (file, infos) -> {
+            result.addAll(infos);
+            return true;
+        }, scope);
+        return result;
+    }
+
+    @NotNull
+    public static List<PsiElement> findFields(@NotNull String name,
+                                              @NotNull Project project,
+                                              @NotNull GlobalSearchScope scope) {
+        List<PsiElement> result = new LinkedList<>();
+        PsiManager psiManager = PsiManager.getInstance(project);
+        FileBasedIndex.getInstance().processValues(NAME, name, null, (file, infos) -> {
+            PsiFile psiFile = psiManager.findFile(file);
+            if (psiFile instanceof PyFile) {
+                result.addAll(findFieldsInFile(infos, (PyFile) psiFile));
+            }
+            return true;
+        }, scope);
+        return result;
+    }
+
+    @NotNull
+    public static List<PsiElement> findFieldsInFile(@NotNull Collection<OdooFieldInfo> infos,
+                                                    @NotNull PyFile file) {
+        List<PsiElement> result = new LinkedList<>();
+        List<OdooFieldInfo> unresolvedInfos = new LinkedList<>();
+        for (OdooFieldInfo info : infos) {
+            PyTargetExpression field = findFieldAtOffset(info, file);
+            if (field == null) {
+                unresolvedInfos.add(info);
+            } else if (!result.contains(field)) {
+                result.add(field);
+            }
+        }
+        if (unresolvedInfos.isEmpty()) {
+            return result;
+        }
+        for (PyClass cls : file.getTopLevelClasses()) {
+            OdooModelInfo modelInfo = OdooModelInfo.getInfo(cls);
+            if (modelInfo == null) {
+                continue;
+            }
+            for (OdooFieldInfo info : unresolvedInfos) {
+                if (modelInfo.getName().equals(info.getModel())) {
+                    PyTargetExpression field = cls.findClassAttribute(info.getName(), false, null);
+                    if (field != null && !result.contains(field)) {
+                        result.add(field);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    @Nullable
+    private static PyTargetExpression findFieldAtOffset(@NotNull OdooFieldInfo info,
+                                                        @NotNull PyFile file) {
+        PsiElement element = file.findElementAt(info.getTextOffset());
+        if (element == null || !(element.getParent() instanceof PyTargetExpression)) {
+            return null;
+        }
+        PyTargetExpression field = (PyTargetExpression) element.getParent();
+        if (!info.getName().equals(field.getName())) {
+            return null;
+        }
+        PyClass cls = field.getContainingClass();
+        if (cls == null) {
+            return null;
+        }
+        OdooModelInfo modelInfo = OdooModelInfo.getInfo(cls);
+        if (modelInfo == null || !modelInfo.getName().equals(info.getModel())) {
+            return null;
+        }
+        return field;
+    }
 }
@@ -9,33 +9,45 @@ import com.intellij.psi.util.CachedValuesManager;
 import com.intellij.util.ObjectUtils;
 import com.jetbrains.python.psi.*;
 import com.jetbrains.python.psi.impl.PyBuiltinCache;
+import com.jetbrains.python.psi.stubs.PyTargetExpressionStub;
 import com.jetbrains.python.psi.types.PyType;
 import com.jetbrains.python.psi.types.TypeEvalContext;
 import dev.ngocta.pycharm.odoo.OdooNames;
 import dev.ngocta.pycharm.odoo.python.OdooPyUtils;
-import gnu.trove.THashSet;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 
 public class OdooFieldInfo {
     private final String myName;
     private final PsiElement myElement;
     private final String myTypeName;
     private final Map<String, Object> myAttributes;
+    private final String myModel;
+    private final int myTextOffset;
 
     public OdooFieldInfo(@NotNull String name,
                          @Nullable PsiElement element,
                          @NotNull String typeName,
                          @NotNull Map<String, Object> attributes) {
+        this(name, element, typeName, attributes, null, -1);
+    }
+
+    OdooFieldInfo(@NotNull String name,
+                  @Nullable PsiElement element,
+                  @NotNull String typeName,
+                  @NotNull Map<String, Object> attributes,
+                  @Nullable String model,
+                  int textOffset) {
         myName = name;
         myElement = element;
         myTypeName = typeName;
         myAttributes = attributes;
+        myModel = model;
+        myTextOffset = textOffset;
     }
 
     @NotNull
@@ -49,23 +61,32 @@ public class OdooFieldInfo {
     }
 
     @Nullable
-    public String getComodel() {
-        return doGetComodel(new THashSet<>());
+    public String getModel() {
+        return myModel;
     }
 
-    private String doGetComodel(Set<PsiElement> visitedFields) {
-        if (visitedFields.contains(myElement)) {
-            return null;
-        }
-        visitedFields.add(myElement);
-        String comodel = ObjectUtils.tryCast(myAttributes.get(OdooNames.FIELD_ATTR_COMODEL_NAME), String.class);
-        if (comodel == null) {
-            OdooFieldInfo relatedInfo = getRelatedFieldInfo();
-            if (relatedInfo != null) {
-                comodel = relatedInfo.doGetComodel(visitedFields);
-            }
+    public int getTextOffset() {
+        return myTextOffset;
+    }
+
+    @NotNull
+    OdooFieldInfo withoutElement(@NotNull String model) {
+        int textOffset = myElement != null ? myElement.getTextOffset() : myTextOffset;
+        return new OdooFieldInfo(myName, null, myTypeName, myAttributes, model, textOffset);
+    }
+
+    @Nullable
+    public String getComodel() {
+        String comodel = getComodelName();
+        if (comodel != null || myElement == null || getRelated() == null) {
+            return comodel;
         }
-        return comodel;
+        return OdooRelatedFieldGraph.getComodel(myElement);
+    }
+
+    @Nullable
+    public String getComodelName() {
+        return ObjectUtils.tryCast(myAttributes.get(OdooNames.FIELD_ATTR_COMODEL_NAME), String.class);
     }
 
     @Nullable
@@ -76,7 +97,7 @@ public class OdooFieldInfo {
     @Nullable
     public PsiElement getRelatedField() {
         String related = getRelated();
-        if (related == null || myName.equals(related)) {
+        if (related == null || myElement == null || myName.equals(related)) {
             return null;
         }
         OdooModelClass cls = OdooModelUtils.getContainingOdooModelClass(myElement);
@@ -84,7 +105,7 @@ public class OdooFieldInfo {
             return null;
         }
         TypeEvalContext context = TypeEvalContext.userInitiated(myElement.getProject(), myElement.getContainingFile());
-        return cls.findFieldByPath(related, context);
+        return OdooFieldPathResolver.resolveField(cls, related, context);
     }
 
     @Nullable
@@ -105,7 +126,7 @@ public class OdooFieldInfo {
     public static OdooFieldInfo getInfo(@Nullable PsiElement field) {
         if (field instanceof PyTargetExpression) {
             return CachedValuesManager.getCachedValue(field, () -> {
-                OdooFieldInfo info = getInfoInner((PyTargetExpression) field);
+                OdooFieldInfo info = getInfoInner((PyTargetExpression) field, true);
                 return CachedValueProvider.Result.create(info, field);
             });
         }
@@ -113,38 +134,74 @@ public class OdooFieldInfo {
     }
 
     @Nullable
-    private static OdooFieldInfo getInfoInner(@NotNull PyTargetExpression field) {
-        if (field.getName() == null || field.getName().startsWith("_")) {
+    public static OdooFieldInfo getSyntacticInfo(@NotNull PyTargetExpression field) {
+        return getInfoInner(field, false);
+    }
+
+    @Nullable
+    private static OdooFieldInfo getInfoInner(@NotNull PyTargetExpression field,
+                                              boolean allowResolve) {
+        String name = field.getName();
+        if (name == null || name.startsWith("_")) {
             return null;
         }
+        PyTargetExpressionStub stub = field.getStub();
+        if (stub != null) {
+            OdooFieldStub fieldStub = stub.getCustomStub(OdooFieldStub.class);
+            if (fieldStub != null) {
+                Map<String, Object> attributes = new HashMap<>();
+                attributes.put(OdooNames.FIELD_ATTR_COMODEL_NAME, fieldStub.getComodel());
+                attributes.put(OdooNames.FIELD_ATTR_RELATED, fieldStub.getRelated());
+                attributes.put(OdooNames.FIELD_ATTR_DELEGATE, fieldStub.isDelegate());
+                return new OdooFieldInfo(name, field, fieldStub.getTypeName(), attributes);
+            }
+            if (stub.getInitializerType() != PyTargetExpressionStub.InitializerType.CallExpression) {
+                return null;
+            }
+        }
         PyExpression assignedValue = field.findAssignedValue();
         if (assignedValue instanceof PyCallExpression) {
             PyCallExpression callExpression = (PyCallExpression) assignedValue;
-            if (OdooModelUtils.isFieldDeclarationExpression(callExpression)) {
-                Map<String, Object> attributes = new HashMap<>();
-                String typeName = Optional.of(callExpression)
-                        .map(PyCallExpression::getCallee)
-                        .map(NavigationItem::getName).orElse(null);
-                if (typeName != null) {
-                    if (OdooNames.FIELD_TYPE_MANY2ONE.equals(typeName)
-                            || OdooNames.FIELD_TYPE_ONE2MANY.equals(typeName)
-                            || OdooNames.FIELD_TYPE_MANY2MANY.equals(typeName)) {
-                        String comodelName = getCallArgumentStringValue(callExpression, 0, OdooNames.FIELD_ATTR_COMODEL_NAME);
-                        attributes.put(OdooNames.FIELD_ATTR_COMODEL_NAME, comodelName);
-                    }
-                    String related = getCallArgumentStringValue(callExpression, OdooNames.FIELD_ATTR_RELATED);
-                    attributes.put(OdooNames.FIELD_ATTR_RELATED, related);
-                    if (OdooNames.FIELD_TYPE_MANY2ONE.equals(typeName)) {
-                        boolean delegate = getCallArgumentBooleanValue(callExpression, OdooNames.FIELD_ATTR_DELEGATE, false);
-                        attributes.put(OdooNames.FIELD_ATTR_DELEGATE, delegate);
-                    }
-                    return new OdooFieldInfo(field.getName(), field, typeName, attributes);
-                }
+            if (OdooFieldDetector.getFieldTypeName(callExpression) != null
+                    || (allowResolve && OdooModelUtils.isFieldDeclarationExpression(callExpression))) {
+                return createInfo(field, callExpression);
             }
         }
         return null;
     }
 
+    @Nullable
+    static OdooFieldInfo createInfo(@NotNull PyTargetExpression field,
+                                    @NotNull PyCallExpression callExpression) {
+        String name = field.getName();
+        if (name == null || name.startsWith("_")) {
+            return null;
+        }
+        Map<String, Object> attributes = new HashMap<>();
+        String typeName = OdooFieldDetector.getFieldTypeName(callExpression);
+        if (typeName == null) {
+            typeName = Optional.of(callExpression)
+                    .map(PyCallExpression::getCallee)
+                    .map(NavigationItem::getName).orElse(null);
+        }
+        if (typeName == null) {
+            return null;
+        }
+        if (OdooNames.FIELD_TYPE_MANY2ONE.equals(typeName)
+                || OdooNames.FIELD_TYPE_ONE2MANY.equals(typeName)
+                || OdooNames.FIELD_TYPE_MANY2MANY.equals(typeName)) {
+            String comodelName = getCallArgumentStringValue(callExpression, 0, OdooNames.FIELD_ATTR_COMODEL_NAME);
+            attributes.put(OdooNames.FIELD_ATTR_COMODEL_NAME, comodelName);
+        }
+        String related = getCallArgumentStringValue(callExpression, OdooNames.FIELD_ATTR_RELATED);
+        attributes.put(OdooNames.FIELD_ATTR_RELATED, related);
+        if (OdooNames.FIELD_TYPE_MANY2ONE.equals(typeName)) {
+            boolean delegate = getCallArgumentBooleanValue(callExpression, OdooNames.FIELD_ATTR_DELEGATE, false);
+            attributes.put(OdooNames.FIELD_ATTR_DELEGATE, delegate);
+        }
+        return new OdooFieldInfo(name, field, typeName, attributes);
+    }
+
     @Nullable
     private static String getCallArgumentStringValue(@NotNull PyCallExpression callExpression,
                                                      @NotNull String keyword) {
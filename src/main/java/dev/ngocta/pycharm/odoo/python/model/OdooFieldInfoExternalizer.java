@@ -0,0 +1,42 @@
+package dev.ngocta.pycharm.odoo.python.model;
+
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import dev.ngocta.pycharm.odoo.OdooNames;
+import dev.ngocta.pycharm.odoo.OdooUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+class OdooFieldInfoExternalizer implements DataExternalizer<OdooFieldInfo> {
+    public static final OdooFieldInfoExternalizer INSTANCE = new OdooFieldInfoExternalizer();
+
+    @Override
+    public void save(@NotNull DataOutput out,
+                     OdooFieldInfo value) throws IOException {
+        out.writeUTF(value.getName());
+        OdooUtils.writeNullableString(value.getModel(), out);
+        out.writeUTF(value.getTypeName());
+        OdooUtils.writeNullableString(value.getComodelName(), out);
+        OdooUtils.writeNullableString(value.getRelated(), out);
+        out.writeBoolean(value.isDelegate());
+        DataInputOutputUtil.writeINT(out, value.getTextOffset());
+    }
+
+    @Override
+    public OdooFieldInfo read(@NotNull DataInput in) throws IOException {
+        String name = in.readUTF();
+        String model = OdooUtils.readNullableString(in);
+        String typeName = in.readUTF();
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put(OdooNames.FIELD_ATTR_COMODEL_NAME, OdooUtils.readNullableString(in));
+        attributes.put(OdooNames.FIELD_ATTR_RELATED, OdooUtils.readNullableString(in));
+        attributes.put(OdooNames.FIELD_ATTR_DELEGATE, in.readBoolean());
+        int textOffset = DataInputOutputUtil.readINT(in);
+        return new OdooFieldInfo(name, null, typeName, attributes, model, textOffset);
+    }
+}
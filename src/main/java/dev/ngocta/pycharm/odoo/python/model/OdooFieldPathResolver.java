@@ -0,0 +1,88 @@
+package dev.ngocta.pycharm.odoo.python.model;
+
+import com.google.common.collect.ImmutableList;
+import com.intellij.openapi.util.Pair;
+import com.intellij.psi.PsiElement;
+import com.jetbrains.python.psi.types.PyType;
+import com.jetbrains.python.psi.types.TypeEvalContext;
+import dev.ngocta.pycharm.odoo.OdooUtils;
+import dev.ngocta.pycharm.odoo.python.module.OdooModelScope;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Resolves dotted field paths such as {@code partner_id.country_id.code}. Every prefix of a path is resolved once per
+ * model scope, so paths sharing a prefix only pay for their last hop.
+ */
+public class OdooFieldPathResolver {
+    private OdooFieldPathResolver() {
+    }
+
+    @NotNull
+    public static List<PsiElement> resolveFields(@NotNull OdooModelClass cls,
+                                                 @NotNull String path,
+                                                 @NotNull TypeEvalContext context) {
+        OdooModelScope scope = OdooModelScope.getInstance(context.getOrigin());
+        if (scope == null) {
+            return doResolveFields(cls, path, context);
+        }
+        return OdooUtils.getParameterizedCachedValue(scope, Pair.create(cls.getName(), path), param -> {
+            return doResolveFields(cls, path, context);
+        });
+    }
+
+    @Nullable
+    public static PsiElement resolveField(@NotNull OdooModelClass cls,
+                                          @NotNull String path,
+                                          @NotNull TypeEvalContext context) {
+        List<PsiElement> fields = resolveFields(cls, path, context);
+        if (fields.size() != getHopCount(path)) {
+            return null;
+        }
+        return fields.get(fields.size() - 1);
+    }
+
+    @NotNull
+    private static List<PsiElement> doResolveFields(@NotNull OdooModelClass cls,
+                                                    @NotNull String path,
+                                                    @NotNull TypeEvalContext context) {
+        if (path.isEmpty()) {
+            return Collections.emptyList();
+        }
+        int idx = path.lastIndexOf('.');
+        if (idx < 0) {
+            PsiElement field = cls.findField(path, context);
+            return field != null ? Collections.singletonList(field) : Collections.emptyList();
+        }
+        String prefix = path.substring(0, idx);
+        List<PsiElement> prefixFields = resolveFields(cls, prefix, context);
+        if (prefixFields.size() != getHopCount(prefix)) {
+            return prefixFields;
+        }
+        PyType type = OdooFieldInfo.getFieldType(prefixFields.get(prefixFields.size() - 1), context);
+        if (!(type instanceof OdooModelClassType)) {
+            return prefixFields;
+        }
+        PsiElement field = ((OdooModelClassType) type).getPyClass().findField(path.substring(idx + 1), context);
+        if (field == null) {
+            return prefixFields;
+        }
+        return ImmutableList.<PsiElement>builder().addAll(prefixFields).add(field).build();
+    }
+
+    private static int getHopCount(@NotNull String path) {
+        if (path.isEmpty()) {
+            return 0;
+        }
+        int count = 1;
+        for (int i = 0; i < path.length(); i++) {
+            if (path.charAt(i) == '.') {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -17,6 +17,7 @@ import org.jetbrains.annotations.Nullable;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 
 public class OdooFieldReference extends PsiReferenceBase.Poly<PsiElement> {
     private final OdooModelClass myModelClass;
@@ -64,8 +65,15 @@ public class OdooFieldReference extends PsiReferenceBase.Poly<PsiElement> {
             if (idx == 0) {
                 return cls;
             }
-            PsiReference prevReference = myFieldPathReferences.getReferences()[idx - 1];
-            PsiElement field = prevReference.resolve();
+            PsiElement field = null;
+            if (cls != null) {
+                List<String> prevNames = Arrays.asList(myFieldPathReferences.getFieldNames()).subList(0, idx);
+                field = OdooFieldPathResolver.resolveField(cls, String.join(".", prevNames), myContext);
+            }
+            if (field == null) {
+                PsiReference prevReference = myFieldPathReferences.getReferences()[idx - 1];
+                field = prevReference.resolve();
+            }
             if (field instanceof PyTargetExpression) {
                 PyType type = OdooFieldInfo.getFieldType(field, myContext);
                 if (type instanceof OdooModelClassType) {
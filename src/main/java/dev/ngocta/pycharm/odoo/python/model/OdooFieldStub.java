@@ -0,0 +1,70 @@
+package dev.ngocta.pycharm.odoo.python.model;
+
+import com.intellij.psi.stubs.StubOutputStream;
+import com.intellij.psi.util.QualifiedName;
+import com.jetbrains.python.psi.impl.stubs.CustomTargetExpressionStub;
+import com.jetbrains.python.psi.impl.stubs.CustomTargetExpressionStubType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+
+public class OdooFieldStub implements CustomTargetExpressionStub {
+    private final String myTypeName;
+    private final QualifiedName myCalleeName;
+    private final String myComodel;
+    private final String myRelated;
+    private final boolean myDelegate;
+
+    public OdooFieldStub(@NotNull String typeName,
+                         @Nullable QualifiedName calleeName,
+                         @Nullable String comodel,
+                         @Nullable String related,
+                         boolean delegate) {
+        myTypeName = typeName;
+        myCalleeName = calleeName;
+        myComodel = comodel;
+        myRelated = related;
+        myDelegate = delegate;
+    }
+
+    @NotNull
+    public String getTypeName() {
+        return myTypeName;
+    }
+
+    @Nullable
+    public String getComodel() {
+        return myComodel;
+    }
+
+    @Nullable
+    public String getRelated() {
+        return myRelated;
+    }
+
+    public boolean isDelegate() {
+        return myDelegate;
+    }
+
+    @Nullable
+    @Override
+    public QualifiedName getCalleeName() {
+        return myCalleeName;
+    }
+
+    @NotNull
+    @Override
+    public Class<? extends CustomTargetExpressionStubType<? extends CustomTargetExpressionStub>> getTypeClass() {
+        return OdooFieldStubType.class;
+    }
+
+    @Override
+    public void serialize(@NotNull StubOutputStream stream) throws IOException {
+        stream.writeName(myTypeName);
+        QualifiedName.serialize(myCalleeName, stream);
+        stream.writeName(myComodel);
+        stream.writeName(myRelated);
+        stream.writeBoolean(myDelegate);
+    }
+}
@@ -0,0 +1,54 @@
+package dev.ngocta.pycharm.odoo.python.model;
+
+import com.intellij.psi.stubs.StubInputStream;
+import com.intellij.psi.util.QualifiedName;
+import com.jetbrains.python.psi.PyCallExpression;
+import com.jetbrains.python.psi.PyExpression;
+import com.jetbrains.python.psi.PyReferenceExpression;
+import com.jetbrains.python.psi.PyTargetExpression;
+import com.jetbrains.python.psi.impl.stubs.CustomTargetExpressionStubType;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+
+public class OdooFieldStubType extends CustomTargetExpressionStubType<OdooFieldStub> {
+    @Nullable
+    @Override
+    public OdooFieldStub createStub(PyTargetExpression psi) {
+        if (psi.getContainingClass() == null) {
+            return null;
+        }
+        PyExpression assignedValue = psi.findAssignedValue();
+        if (!(assignedValue instanceof PyCallExpression)) {
+            return null;
+        }
+        PyCallExpression callExpression = (PyCallExpression) assignedValue;
+        if (!OdooModelUtils.isKnownFieldDeclarationExpression(callExpression)) {
+            return null;
+        }
+        OdooFieldInfo info = OdooFieldInfo.createInfo(psi, callExpression);
+        if (info == null) {
+            return null;
+        }
+        QualifiedName calleeName = null;
+        PyExpression callee = callExpression.getCallee();
+        if (callee instanceof PyReferenceExpression) {
+            calleeName = ((PyReferenceExpression) callee).asQualifiedName();
+        }
+        return new OdooFieldStub(info.getTypeName(), calleeName, info.getComodelName(), info.getRelated(), info.isDelegate());
+    }
+
+    @Nullable
+    @Override
+    public OdooFieldStub deserializeStub(StubInputStream stream) throws IOException {
+        String typeName = stream.readNameString();
+        QualifiedName calleeName = QualifiedName.deserialize(stream);
+        String comodel = stream.readNameString();
+        String related = stream.readNameString();
+        boolean delegate = stream.readBoolean();
+        if (typeName == null) {
+            return null;
+        }
+        return new OdooFieldStub(typeName, calleeName, comodel, related, delegate);
+    }
+}
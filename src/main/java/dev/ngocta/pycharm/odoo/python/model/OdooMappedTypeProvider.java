@@ -30,7 +30,7 @@ public class OdooMappedTypeProvider extends PyTypeProviderBase {
             PyStringLiteralExpression fieldPathExpression = mappedCall.getArgument(0, PyStringLiteralExpression.class);
             if (fieldPathExpression != null) {
                 String fieldPath = fieldPathExpression.getStringValue();
-                PsiElement field = modelClassType.getPyClass().findFieldByPath(fieldPath, context);
+                PsiElement field = OdooFieldPathResolver.resolveField(modelClassType.getPyClass(), fieldPath, context);
                 PyType fieldType = OdooFieldInfo.getFieldType(field, context);
                 if (fieldType instanceof OdooModelClassType) {
                     result.set(((OdooModelClassType) fieldType).withMultiRecord());
@@ -0,0 +1,106 @@
+package dev.ngocta.pycharm.odoo.python.model;
+
+import com.jetbrains.python.psi.PyClass;
+import com.jetbrains.python.psi.impl.PyBuiltinCache;
+import com.jetbrains.python.psi.types.PyClassType;
+import com.jetbrains.python.psi.types.TypeEvalContext;
+import dev.ngocta.pycharm.odoo.OdooNames;
+import dev.ngocta.pycharm.odoo.OdooUtils;
+import dev.ngocta.pycharm.odoo.python.module.OdooModelScope;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+class OdooModelAncestors {
+    private final List<PyClass> myClasses;
+    private final List<PyClass> myExplicitClasses;
+    private final Set<PyClass> myClassSet;
+    private final Set<String> myQualifiedNames;
+
+    private OdooModelAncestors(@NotNull Collection<PyClass> classes,
+                               int explicitCount) {
+        List<PyClass> list = Arrays.asList(classes.toArray(new PyClass[0]));
+        myClasses = Collections.unmodifiableList(list);
+        myExplicitClasses = Collections.unmodifiableList(list.subList(0, explicitCount));
+        myClassSet = Collections.newSetFromMap(new IdentityHashMap<>(list.size()));
+        myClassSet.addAll(list);
+        myQualifiedNames = new HashSet<>(list.size());
+        for (PyClass cls : list) {
+            String qualifiedName = cls.getQualifiedName();
+            if (qualifiedName != null) {
+                myQualifiedNames.add(qualifiedName);
+            }
+        }
+    }
+
+    @NotNull
+    static OdooModelAncestors getInstance(@NotNull OdooModelClass modelClass,
+                                          @NotNull TypeEvalContext context) {
+        OdooModelScope scope = OdooModelScope.getInstance(context.getOrigin());
+        if (scope == null) {
+            return compute(modelClass, context);
+        }
+        return OdooUtils.getParameterizedCachedValue(scope, modelClass.getName(), param -> compute(modelClass, context));
+    }
+
+    @NotNull
+    private static OdooModelAncestors compute(@NotNull OdooModelClass modelClass,
+                                              @NotNull TypeEvalContext context) {
+        Set<PyClass> classes = new LinkedHashSet<>();
+        collectExplicitAncestors(modelClass, context, classes, new HashSet<>());
+        int explicitCount = classes.size();
+        if (OdooNames.BASE_MODEL.equals(modelClass.getName())) {
+            PyClass baseModelClass = OdooModelUtils.getBaseModelClass(context.getOrigin());
+            if (baseModelClass != null) {
+                classes.add(baseModelClass);
+                PyClassType objectType = PyBuiltinCache.getInstance(baseModelClass).getObjectType();
+                if (objectType != null) {
+                    classes.add(objectType.getPyClass());
+                }
+            }
+        } else {
+            OdooModelClass baseModel = OdooModelClass.getInstance(OdooNames.BASE_MODEL, modelClass.getProject());
+            classes.addAll(getInstance(baseModel, context).getClasses());
+        }
+        return new OdooModelAncestors(classes, explicitCount);
+    }
+
+    private static void collectExplicitAncestors(@NotNull OdooModelClass modelClass,
+                                                 @NotNull TypeEvalContext context,
+                                                 @NotNull Set<PyClass> classes,
+                                                 @NotNull Set<String> visitedModels) {
+        if (!visitedModels.add(modelClass.getName())) {
+            return;
+        }
+        for (PyClass cls : modelClass.getSuperClasses(context)) {
+            if (cls instanceof OdooModelClass) {
+                collectExplicitAncestors((OdooModelClass) cls, context, classes, visitedModels);
+            } else {
+                classes.add(cls);
+                for (PyClass superClass : cls.getSuperClasses(context)) {
+                    if (!superClass.isSubclass(OdooNames.BASE_MODEL_CLASS_QNAME, context)) {
+                        classes.add(superClass);
+                    }
+                }
+            }
+        }
+    }
+
+    @NotNull
+    List<PyClass> getClasses() {
+        return myClasses;
+    }
+
+    @NotNull
+    List<PyClass> getExplicitClasses() {
+        return myExplicitClasses;
+    }
+
+    boolean contains(@NotNull PyClass cls) {
+        return myClassSet.contains(cls);
+    }
+
+    boolean contains(@NotNull String qualifiedName) {
+        return myQualifiedNames.contains(qualifiedName);
+    }
+}
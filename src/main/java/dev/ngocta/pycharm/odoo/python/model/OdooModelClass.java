@@ -5,7 +5,6 @@ import com.intellij.lang.ASTNode;
 import com.intellij.lang.Language;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.ModificationTracker;
-import com.intellij.openapi.util.Ref;
 import com.intellij.openapi.util.TextRange;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
@@ -19,13 +18,10 @@ import com.intellij.util.Processor;
 import com.jetbrains.python.PyStubElementTypes;
 import com.jetbrains.python.PythonFileType;
 import com.jetbrains.python.psi.*;
-import com.jetbrains.python.psi.impl.PyBuiltinCache;
 import com.jetbrains.python.psi.stubs.PyClassStub;
 import com.jetbrains.python.psi.types.PyClassLikeType;
-import com.jetbrains.python.psi.types.PyClassType;
 import com.jetbrains.python.psi.types.PyType;
 import com.jetbrains.python.psi.types.TypeEvalContext;
-import com.pty4j.util.Pair;
 import dev.ngocta.pycharm.odoo.OdooNames;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -69,42 +65,11 @@ public class OdooModelClass extends PsiElementBase implements PyClass {
         if (context == null) {
             return Collections.emptyList();
         }
-        List<PyClass> result = new LinkedList<>(getExplicitAncestorClasses(context));
-        if (OdooNames.BASE_MODEL.equals(myName)) {
-            PyClass baseModelClass = OdooModelUtils.getBaseModelClass(context.getOrigin());
-            if (baseModelClass != null) {
-                result.add(baseModelClass);
-                PyBuiltinCache builtinCache = PyBuiltinCache.getInstance(baseModelClass);
-                PyClassType objectType = builtinCache.getObjectType();
-                if (objectType != null) {
-                    result.add(objectType.getPyClass());
-                }
-            }
-        } else {
-            List<PyClass> modelBaseAncestors = getInstance(OdooNames.BASE_MODEL, myProject).getAncestorClasses(context);
-            result.addAll(modelBaseAncestors);
-        }
-        return result;
+        return OdooModelAncestors.getInstance(this, context).getClasses();
     }
 
     private List<PyClass> getExplicitAncestorClasses(@NotNull TypeEvalContext context) {
-        return PyUtil.getParameterizedCachedValue(this, context.getOrigin(), param -> {
-            List<PyClass> result = new LinkedList<>();
-            PyClass[] classes = getSuperClasses(context);
-            for (PyClass cls : classes) {
-                if (cls instanceof OdooModelClass) {
-                    result.addAll(((OdooModelClass) cls).getExplicitAncestorClasses(context));
-                } else {
-                    result.add(cls);
-                    for (PyClass subCls : cls.getSuperClasses(context)) {
-                        if (!subCls.isSubclass(OdooNames.BASE_MODEL_CLASS_QNAME, context)) {
-                            result.add(subCls);
-                        }
-                    }
-                }
-            }
-            return result;
-        });
+        return OdooModelAncestors.getInstance(this, context).getExplicitClasses();
     }
 
     @NotNull
@@ -125,15 +90,13 @@ public class OdooModelClass extends PsiElementBase implements PyClass {
         }
         List<PyClass> modelClasses = Lists.newArrayList(OdooModelIndex.getAvailableOdooModelClassesByName(getName(), file));
         List<String> superModels = new LinkedList<>();
-        Lists.reverse(modelClasses).forEach(modelClass -> {
-            OdooModelInfo info = OdooModelInfo.getInfo(modelClass);
-            if (info != null) {
-                info.getInherit().forEach(inherit -> {
-                    if (!inherit.equals(getName()) && !superModels.contains(inherit)) {
-                        superModels.add(inherit);
-                    }
-                });
-            }
+        List<OdooModelInfo> modelInfos = OdooModelIndex.getAvailableOdooModelInfos(getName(), file);
+        Lists.reverse(modelInfos).forEach(info -> {
+            info.getInherit().forEach(inherit -> {
+                if (!inherit.equals(getName()) && !superModels.contains(inherit)) {
+                    superModels.add(inherit);
+                }
+            });
         });
         superModels.forEach(model -> {
             modelClasses.add(OdooModelClass.getInstance(model, myProject));
@@ -339,13 +302,13 @@ public class OdooModelClass extends PsiElementBase implements PyClass {
     @Override
     public boolean isSubclass(PyClass parent,
                               @Nullable TypeEvalContext context) {
-        return this.getAncestorClasses(context).contains(parent);
+        return context != null && parent != null && OdooModelAncestors.getInstance(this, context).contains(parent);
     }
 
     @Override
     public boolean isSubclass(@NotNull String superClassQName,
                               @Nullable TypeEvalContext context) {
-        return this.getAncestorClasses(context).stream().anyMatch(cls -> superClassQName.equals(cls.getQualifiedName()));
+        return context != null && OdooModelAncestors.getInstance(this, context).contains(superClassQName);
     }
 
     @Nullable
@@ -555,27 +518,17 @@ public class OdooModelClass extends PsiElementBase implements PyClass {
 
     @NotNull
     public List<OdooModelClass> getDelegationChildren(@NotNull TypeEvalContext context) {
-        Set<String> children = new HashSet<>();
-        getExplicitAncestorClasses(context).forEach(cls -> {
-            OdooModelInfo info = OdooModelInfo.getInfo(cls);
-            if (info != null) {
-                children.addAll(info.getInherits().keySet());
-            }
-        });
         List<OdooModelClass> result = new LinkedList<>();
-        children.forEach(child -> result.add(getInstance(child, myProject)));
+        OdooModelMembers.getInstance(this, context).getDelegations().keySet().forEach(child -> {
+            result.add(getInstance(child, myProject));
+        });
         return result;
     }
 
     public boolean visitMembers(@NotNull Processor<PsiElement> processor,
                                 @NotNull TypeEvalContext context) {
-        for (PyClass cls : getAncestorClasses(context)) {
-            if (!cls.processClassLevelDeclarations((element, state) -> processor.process(element))) {
-                return false;
-            }
-        }
-        for (OdooModelClass cls : getDelegationChildren(context)) {
-            if (!cls.visitField(processor, context)) {
+        for (PsiElement member : OdooModelMembers.getInstance(this, context).getMembers()) {
+            if (!processor.process(member)) {
                 return false;
             }
         }
@@ -584,68 +537,35 @@ public class OdooModelClass extends PsiElementBase implements PyClass {
 
     public boolean visitField(@NotNull Processor<PsiElement> processor,
                               @NotNull TypeEvalContext context) {
-        return visitMembers(element -> {
-            if (OdooFieldInfo.getInfo(element) != null) {
-                return processor.process(element);
+        for (PsiElement field : OdooModelMembers.getInstance(this, context).getFields()) {
+            if (!processor.process(field)) {
+                return false;
             }
-            return true;
-        }, context);
+        }
+        return true;
     }
 
     @Nullable
     public PsiElement findField(@NotNull String name,
                                 @NotNull TypeEvalContext context) {
-        return PyUtil.getNullableParameterizedCachedValue(this, Pair.create(context.getOrigin(), name), param -> {
-            Ref<PsiElement> ref = new Ref<>();
-            visitMembers(member -> {
-                OdooFieldInfo fieldInfo = OdooFieldInfo.getInfo(member);
-                if (fieldInfo != null && name.equals(fieldInfo.getName())) {
-                    ref.set(member);
-                    return false;
-                }
-                return true;
-            }, context);
-            return ref.get();
-        });
+        return OdooModelMembers.getInstance(this, context).findField(name);
     }
 
     @Nullable
     public PsiElement findFieldByPath(@NotNull String path,
                                       @NotNull TypeEvalContext context) {
-        String[] names = path.split("\\.");
-        return findFieldByPath(names, context);
+        return OdooFieldPathResolver.resolveField(this, path, context);
     }
 
     @Nullable
     public PsiElement findFieldByPath(@NotNull String[] fieldNames,
                                       @NotNull TypeEvalContext context) {
-        List<PsiElement> fields = findFieldsInPath(fieldNames, context);
-        if (fieldNames.length != fields.size()) {
-            return null;
-        }
-        return fields.get(fields.size() - 1);
+        return findFieldByPath(String.join(".", fieldNames), context);
     }
 
     @NotNull
     public List<PsiElement> findFieldsInPath(@NotNull String[] fieldNames,
                                              @NotNull TypeEvalContext context) {
-        return PyUtil.getParameterizedCachedValue(this, Pair.create(context.getOrigin(), fieldNames), param -> {
-            List<PsiElement> result = new LinkedList<>();
-            if (fieldNames.length == 0) {
-                return result;
-            }
-            String name = fieldNames[0];
-            PsiElement field = findField(name, context);
-            if (field != null) {
-                result.add(field);
-                PyType fieldType = OdooFieldInfo.getFieldType(field, context);
-                if (fieldType instanceof OdooModelClassType) {
-                    String[] remainingFieldNames = Arrays.copyOfRange(fieldNames, 1, fieldNames.length);
-                    OdooModelClass cls = ((OdooModelClassType) fieldType).getPyClass();
-                    result.addAll(cls.findFieldsInPath(remainingFieldNames, context));
-                }
-            }
-            return result;
-        });
+        return OdooFieldPathResolver.resolveFields(this, String.join(".", fieldNames), context);
     }
 }
@@ -0,0 +1,59 @@
+package dev.ngocta.pycharm.odoo.python.model;
+
+import com.intellij.psi.stubs.StubOutputStream;
+import com.jetbrains.python.psi.impl.stubs.PyCustomClassStub;
+import com.jetbrains.python.psi.impl.stubs.PyCustomClassStubType;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+public class OdooModelClassStub implements PyCustomClassStub {
+    private final String myName;
+    private final List<String> myInherit;
+    private final Map<String, String> myInherits;
+
+    public OdooModelClassStub(@NotNull String name,
+                              @NotNull List<String> inherit,
+                              @NotNull Map<String, String> inherits) {
+        myName = name;
+        myInherit = inherit;
+        myInherits = inherits;
+    }
+
+    @NotNull
+    public String getName() {
+        return myName;
+    }
+
+    @NotNull
+    public List<String> getInherit() {
+        return myInherit;
+    }
+
+    @NotNull
+    public Map<String, String> getInherits() {
+        return myInherits;
+    }
+
+    @NotNull
+    @Override
+    public Class<? extends PyCustomClassStubType<? extends PyCustomClassStub>> getTypeClass() {
+        return OdooModelClassStubType.class;
+    }
+
+    @Override
+    public void serialize(@NotNull StubOutputStream stream) throws IOException {
+        stream.writeName(myName);
+        stream.writeVarInt(myInherit.size());
+        for (String inherit : myInherit) {
+            stream.writeName(inherit);
+        }
+        stream.writeVarInt(myInherits.size());
+        for (Map.Entry<String, String> entry : myInherits.entrySet()) {
+            stream.writeName(entry.getKey());
+            stream.writeName(entry.getValue());
+        }
+    }
+}
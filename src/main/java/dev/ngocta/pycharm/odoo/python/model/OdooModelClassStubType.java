@@ -0,0 +1,39 @@
+package dev.ngocta.pycharm.odoo.python.model;
+
+import com.intellij.psi.stubs.StubInputStream;
+import com.jetbrains.python.psi.PyClass;
+import com.jetbrains.python.psi.impl.stubs.PyCustomClassStubType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.*;
+
+public class OdooModelClassStubType extends PyCustomClassStubType<OdooModelClassStub> {
+    @Nullable
+    @Override
+    public OdooModelClassStub createStub(@NotNull PyClass psi) {
+        OdooModelInfo info = OdooModelInfo.parseModelAttributes(psi);
+        if (info == null) {
+            return null;
+        }
+        return new OdooModelClassStub(info.getName(), info.getInherit(), info.getInherits());
+    }
+
+    @Nullable
+    @Override
+    public OdooModelClassStub deserializeStub(@NotNull StubInputStream stream) throws IOException {
+        String name = stream.readNameString();
+        int inheritSize = stream.readVarInt();
+        List<String> inherit = new ArrayList<>(inheritSize);
+        for (int i = 0; i < inheritSize; i++) {
+            inherit.add(stream.readNameString());
+        }
+        int inheritsSize = stream.readVarInt();
+        Map<String, String> inherits = new HashMap<>(inheritsSize);
+        for (int i = 0; i < inheritsSize; i++) {
+            inherits.put(stream.readNameString(), stream.readNameString());
+        }
+        return new OdooModelClassStub(name, inherit, inherits);
+    }
+}
@@ -1,14 +1,17 @@
 package dev.ngocta.pycharm.odoo.python.model;
 
 import com.intellij.psi.PsiElement;
+import com.intellij.util.ProcessingContext;
 import com.intellij.util.Processor;
 import com.jetbrains.python.psi.PyClass;
 import com.jetbrains.python.psi.types.TypeEvalContext;
 import gnu.trove.THashSet;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 public class OdooModelClassSuperType extends OdooModelClassType {
     private final OdooModelClassType myOrigin;
@@ -27,23 +30,26 @@ public class OdooModelClassSuperType extends OdooModelClassType {
         return "super(" + super.getName() + ")";
     }
 
+    @NotNull
+    @Override
+    public List<PsiElement> multiResolvePsiMember(@NotNull String name,
+                                                  @NotNull TypeEvalContext context) {
+        List<PsiElement> members = super.multiResolvePsiMember(name, context);
+        if (members.isEmpty()) {
+            return members;
+        }
+        Set<PsiElement> ignoredMembers = getIgnoredMembers(context);
+        return members.stream()
+                .filter(member -> !ignoredMembers.contains(member))
+                .collect(Collectors.toList());
+    }
+
     @Override
     public void visitMembers(@NotNull Processor<PsiElement> processor,
                              boolean inherited,
                              @NotNull TypeEvalContext context) {
         if (inherited) {
-            List<PyClass> ancestors = getPyClass().getAncestorClasses(context);
-            int anchorIndex = ancestors.indexOf(myAnchor);
-            if (anchorIndex >= 0) {
-                ancestors = ancestors.subList(0, anchorIndex + 1);
-            }
-            Set<PsiElement> ignoredMembers = new THashSet<>();
-            for (PyClass ancestor : ancestors) {
-                ancestor.processClassLevelDeclarations((element, state) -> {
-                    ignoredMembers.add(element);
-                    return true;
-                });
-            }
+            Set<PsiElement> ignoredMembers = getIgnoredMembers(context);
             super.visitMembers(element -> {
                 if (!ignoredMembers.contains(element)) {
                     return processor.process(element);
@@ -53,6 +59,33 @@ public class OdooModelClassSuperType extends OdooModelClassType {
         }
     }
 
+    @Override
+    public Object[] getCompletionVariants(String completionPrefix,
+                                          PsiElement location,
+                                          ProcessingContext processingContext) {
+        TypeEvalContext context = TypeEvalContext.codeCompletion(location.getProject(), location.getContainingFile());
+        List<PsiElement> members = new LinkedList<>();
+        visitMembers(members::add, true, context);
+        return OdooModelUtils.createLookupElements(members);
+    }
+
+    @NotNull
+    private Set<PsiElement> getIgnoredMembers(@NotNull TypeEvalContext context) {
+        List<PyClass> ancestors = getPyClass().getAncestorClasses(context);
+        int anchorIndex = ancestors.indexOf(myAnchor);
+        if (anchorIndex >= 0) {
+            ancestors = ancestors.subList(0, anchorIndex + 1);
+        }
+        Set<PsiElement> ignoredMembers = new THashSet<>();
+        for (PyClass ancestor : ancestors) {
+            ancestor.processClassLevelDeclarations((element, state) -> {
+                ignoredMembers.add(element);
+                return true;
+            });
+        }
+        return ignoredMembers;
+    }
+
     public OdooModelClassType getOrigin() {
         return myOrigin;
     }
@@ -1,9 +1,6 @@
 package dev.ngocta.pycharm.odoo.python.model;
 
-import com.google.common.collect.ImmutableList;
-import com.intellij.codeInsight.lookup.LookupElement;
 import com.intellij.openapi.project.Project;
-import com.intellij.openapi.util.Pair;
 import com.intellij.openapi.util.UserDataHolderBase;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiInvalidElementAccessException;
@@ -115,16 +112,7 @@ public class OdooModelClassType extends UserDataHolderBase implements PyClassTyp
     @NotNull
     public List<PsiElement> multiResolvePsiMember(@NotNull String name,
                                                   @NotNull TypeEvalContext context) {
-        return PyUtil.getParameterizedCachedValue(getPyClass(), Pair.create(name, context), param -> {
-            List<PsiElement> result = new LinkedList<>();
-            visitMembers(element -> {
-                if (element instanceof PsiNamedElement && name.equals(((PsiNamedElement) element).getName())) {
-                    result.add(element);
-                }
-                return true;
-            }, true, context);
-            return ImmutableList.copyOf(result);
-        });
+        return OdooModelMembers.getInstance(myClass, context).getMembers(name);
     }
 
     @Nullable
@@ -217,15 +205,7 @@ public class OdooModelClassType extends UserDataHolderBase implements PyClassTyp
                                           PsiElement location,
                                           ProcessingContext processingContext) {
         TypeEvalContext context = TypeEvalContext.codeCompletion(location.getProject(), location.getContainingFile());
-        Map<String, Object> map = new LinkedHashMap<>();
-        visitMembers(member -> {
-            LookupElement lookupElement = OdooModelUtils.createLookupElement(member, context);
-            if (lookupElement != null && !map.containsKey(lookupElement.getLookupString())) {
-                map.put(lookupElement.getLookupString(), OdooModelUtils.createLookupElement(member, context));
-            }
-            return true;
-        }, true, context);
-        return map.values().toArray();
+        return OdooModelMembers.getInstance(myClass, context).getLookupElements();
     }
 
     @NotNull
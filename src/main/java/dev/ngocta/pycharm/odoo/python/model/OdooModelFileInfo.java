@@ -0,0 +1,73 @@
+package dev.ngocta.pycharm.odoo.python.model;
+
+import com.intellij.openapi.util.Key;
+import com.intellij.psi.PsiFile;
+import com.intellij.util.indexing.FileContent;
+import com.jetbrains.python.psi.PyClass;
+import com.jetbrains.python.psi.PyFile;
+import com.jetbrains.python.psi.PyTargetExpression;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+public class OdooModelFileInfo {
+    private static final Key<OdooModelFileInfo> KEY = Key.create("odoo.model.file.info");
+
+    private final List<OdooModelInfo> myModels;
+    private final List<OdooFieldInfo> myFields;
+
+    private OdooModelFileInfo(@NotNull List<OdooModelInfo> models,
+                              @NotNull List<OdooFieldInfo> fields) {
+        myModels = models;
+        myFields = fields;
+    }
+
+    @NotNull
+    public List<OdooModelInfo> getModels() {
+        return myModels;
+    }
+
+    @NotNull
+    public List<OdooFieldInfo> getFields() {
+        return myFields;
+    }
+
+    @NotNull
+    public static OdooModelFileInfo getInfo(@NotNull FileContent content) {
+        OdooModelFileInfo info = content.getUserData(KEY);
+        if (info == null) {
+            info = getInfoInner(content.getPsiFile());
+            content.putUserData(KEY, info);
+        }
+        return info;
+    }
+
+    @NotNull
+    static OdooModelFileInfo getInfoInner(@NotNull PsiFile file) {
+        List<OdooModelInfo> models = new LinkedList<>();
+        List<OdooFieldInfo> fields = new LinkedList<>();
+        if (file instanceof PyFile) {
+            for (PyClass cls : ((PyFile) file).getTopLevelClasses()) {
+                OdooModelInfo modelInfo = OdooModelInfo.parseModelAttributes(cls);
+                if (modelInfo == null) {
+                    continue;
+                }
+                Map<String, String> inherits = new HashMap<>(modelInfo.getInherits());
+                for (PyTargetExpression attribute : cls.getClassAttributes()) {
+                    OdooFieldInfo fieldInfo = OdooFieldInfo.getSyntacticInfo(attribute);
+                    if (fieldInfo != null) {
+                        fields.add(fieldInfo.withoutElement(modelInfo.getName()));
+                        if (fieldInfo.isDelegate() && fieldInfo.getComodelName() != null) {
+                            inherits.put(fieldInfo.getComodelName(), fieldInfo.getName());
+                        }
+                    }
+                }
+                models.add(new OdooModelInfo(modelInfo.getName(), modelInfo.getInherit(), inherits, cls.getName(), cls.getTextOffset()));
+            }
+        }
+        return new OdooModelFileInfo(models, fields);
+    }
+}
@@ -10,42 +10,38 @@ import com.intellij.psi.PsiManager;
 import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.util.indexing.*;
 import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
 import com.intellij.util.io.EnumeratorStringDescriptor;
 import com.intellij.util.io.KeyDescriptor;
-import com.intellij.util.io.VoidDataExternalizer;
 import com.jetbrains.python.psi.PyClass;
-import com.jetbrains.python.psi.PyElementVisitor;
 import com.jetbrains.python.psi.PyFile;
-import com.jetbrains.python.psi.PyUtil;
+import dev.ngocta.pycharm.odoo.OdooUtils;
+import dev.ngocta.pycharm.odoo.python.module.OdooModelScope;
 import dev.ngocta.pycharm.odoo.python.module.OdooModuleUtils;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.*;
 
-public class OdooModelIndex extends FileBasedIndexExtension<String, Void> {
-    public static final @NotNull ID<String, Void> NAME = ID.create("odoo.model");
+public class OdooModelIndex extends FileBasedIndexExtension<String, List<OdooModelInfo>> {
+    public static final @NotNull ID<String, List<OdooModelInfo>> NAME = ID.create("odoo.model");
 
     @NotNull
     @Override
-    public ID<String, Void> getName() {
+    public ID<String, List<OdooModelInfo>> getName() {
         return NAME;
     }
 
     @NotNull
     @Override
-    public DataIndexer<String, Void, FileContent> getIndexer() {
+    public DataIndexer<String, List<OdooModelInfo>, FileContent> getIndexer() {
         return inputData -> {
-            Map<String, Void> result = new HashMap<>();
-            inputData.getPsiFile().acceptChildren(new PyElementVisitor() {
-                @Override
-                public void visitPyClass(PyClass cls) {
-                    super.visitPyClass(cls);
-                    OdooModelInfo info = OdooModelInfo.getInfo(cls);
-                    if (info != null) {
-                        result.putIfAbsent(info.getName(), null);
-                    }
-                }
-            });
+            Map<String, List<OdooModelInfo>> result = new HashMap<>();
+            for (OdooModelInfo info : OdooModelFileInfo.getInfo(inputData).getModels()) {
+                result.computeIfAbsent(info.getName(), k -> new LinkedList<>()).add(info);
+            }
             return result;
         };
     }
@@ -58,13 +54,32 @@ public class OdooModelIndex extends FileBasedIndexExtension<String, Void> {
 
     @NotNull
     @Override
-    public DataExternalizer<Void> getValueExternalizer() {
-        return VoidDataExternalizer.INSTANCE;
+    public DataExternalizer<List<OdooModelInfo>> getValueExternalizer() {
+        return new DataExternalizer<List<OdooModelInfo>>() {
+            @Override
+            public void save(@NotNull DataOutput out,
+                             List<OdooModelInfo> value) throws IOException {
+                DataInputOutputUtil.writeINT(out, value.size());
+                for (OdooModelInfo info : value) {
+                    OdooModelInfoExternalizer.INSTANCE.save(out, info);
+                }
+            }
+
+            @Override
+            public List<OdooModelInfo> read(@NotNull DataInput in) throws IOException {
+                int size = DataInputOutputUtil.readINT(in);
+                List<OdooModelInfo> infos = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    infos.add(OdooModelInfoExternalizer.INSTANCE.read(in));
+                }
+                return infos;
+            }
+        };
     }
 
     @Override
     public int getVersion() {
-        return 8;
+        return 11;
     }
 
     @NotNull
@@ -79,34 +94,57 @@ public class OdooModelIndex extends FileBasedIndexExtension<String, Void> {
     }
 
     @NotNull
-    private static List<PyClass> getOdooModelClassesByNameInFile(@NotNull String model,
-                                                                 @NotNull PyFile file) {
+    private static List<PyClass> getOdooModelClassesInFile(@NotNull List<OdooModelInfo> infos,
+                                                           @NotNull PyFile file) {
         List<PyClass> classes = new LinkedList<>();
-        file.acceptChildren(new PyElementVisitor() {
-            @Override
-            public void visitPyClass(PyClass cls) {
-                super.visitPyClass(cls);
-                OdooModelInfo info = OdooModelInfo.getInfo(cls);
-                if (info != null && info.getName().equals(model)) {
+        List<PyClass> topLevelClasses = file.getTopLevelClasses();
+        int i = 0;
+        for (OdooModelInfo info : infos) {
+            while (i < topLevelClasses.size()) {
+                PyClass cls = topLevelClasses.get(i++);
+                if (Objects.equals(info.getClassName(), cls.getName())) {
                     classes.add(cls);
+                    break;
                 }
             }
-        });
+        }
         return Lists.reverse(classes);
     }
 
+    @NotNull
+    private static Map<VirtualFile, List<OdooModelInfo>> getOdooModelInfosByName(@NotNull String model,
+                                                                                 @NotNull GlobalSearchScope scope) {
+        Map<VirtualFile, List<OdooModelInfo>> result = new LinkedHashMap<>();
+        FileBasedIndex.getInstance().processValues(NAME, model, null, (file, infos) -> {
+            result.put(file, infos);
+            return true;
+        }, scope);
+        return result;
+    }
+
+    @NotNull
+    private static Map<VirtualFile, List<OdooModelInfo>> getAvailableOdooModelInfosByName(@NotNull String model,
+                                                                                          @NotNull OdooModelScope scope) {
+        Project project = scope.getProject();
+        Map<VirtualFile, List<OdooModelInfo>> infos = getOdooModelInfosByName(model, scope.getSearchScope());
+        List<VirtualFile> sortedFiles = OdooModuleUtils.sortByOdooModuleDependOrder(infos.keySet(), file -> {
+            return OdooModuleUtils.getContainingOdooModule(file, project);
+        }, false);
+        Map<VirtualFile, List<OdooModelInfo>> result = new LinkedHashMap<>();
+        sortedFiles.forEach(file -> result.put(file, infos.get(file)));
+        return result;
+    }
+
     @NotNull
     public static List<PyClass> getOdooModelClassesByName(@NotNull String model,
                                                           @NotNull Project project,
                                                           @NotNull GlobalSearchScope scope) {
         List<PyClass> result = new LinkedList<>();
-        Collection<VirtualFile> files = FileBasedIndex.getInstance().getContainingFiles(NAME, model, scope);
         PsiManager psiManager = PsiManager.getInstance(project);
-        files.forEach(file -> {
+        getOdooModelInfosByName(model, scope).forEach((file, infos) -> {
             PsiFile psiFile = psiManager.findFile(file);
             if (psiFile instanceof PyFile) {
-                List<PyClass> classes = getOdooModelClassesByNameInFile(model, (PyFile) psiFile);
-                result.addAll(classes);
+                result.addAll(getOdooModelClassesInFile(infos, (PyFile) psiFile));
             }
         });
         return result;
@@ -119,12 +157,53 @@ public class OdooModelIndex extends FileBasedIndexExtension<String, Void> {
         if (file == null) {
             return Collections.emptyList();
         }
-        return PyUtil.getParameterizedCachedValue(file, model, param -> {
-            GlobalSearchScope scope = OdooModuleUtils.getOdooModuleWithDependenciesOrSystemWideModulesScope(file);
-            List<PyClass> classes = getOdooModelClassesByName(model, anchor.getProject(), scope);
-            List<PyClass> sortedClasses = OdooModuleUtils.sortElementByOdooModuleDependOrder(classes);
-            return ImmutableList.copyOf(sortedClasses);
+        OdooModelScope scope = OdooModelScope.getInstance(file);
+        if (scope == null) {
+            return Collections.emptyList();
+        }
+        return OdooUtils.getParameterizedCachedValue(scope, model, param -> {
+            return doGetAvailableOdooModelClassesByName(model, scope);
+        });
+    }
+
+    @NotNull
+    private static List<PyClass> doGetAvailableOdooModelClassesByName(@NotNull String model,
+                                                                      @NotNull OdooModelScope scope) {
+        PsiManager psiManager = PsiManager.getInstance(scope.getProject());
+        List<PyClass> result = new LinkedList<>();
+        getAvailableOdooModelInfosByName(model, scope).forEach((modelFile, infos) -> {
+            PsiFile psiFile = psiManager.findFile(modelFile);
+            if (psiFile instanceof PyFile) {
+                result.addAll(getOdooModelClassesInFile(infos, (PyFile) psiFile));
+            }
+        });
+        return ImmutableList.copyOf(result);
+    }
+
+    @NotNull
+    public static List<OdooModelInfo> getAvailableOdooModelInfos(@NotNull String model,
+                                                                 @NotNull PsiElement anchor) {
+        PsiFile file = anchor.getContainingFile();
+        if (file == null) {
+            return Collections.emptyList();
+        }
+        OdooModelScope scope = OdooModelScope.getInstance(file);
+        if (scope == null) {
+            return Collections.emptyList();
+        }
+        return OdooUtils.getParameterizedCachedValue(scope, model, param -> {
+            return doGetAvailableOdooModelInfos(model, scope);
+        });
+    }
+
+    @NotNull
+    private static List<OdooModelInfo> doGetAvailableOdooModelInfos(@NotNull String model,
+                                                                    @NotNull OdooModelScope scope) {
+        List<OdooModelInfo> result = new LinkedList<>();
+        getAvailableOdooModelInfosByName(model, scope).values().forEach(infos -> {
+            result.addAll(Lists.reverse(infos));
         });
+        return ImmutableList.copyOf(result);
     }
 
     @NotNull
@@ -3,6 +3,7 @@ package dev.ngocta.pycharm.odoo.python.model;
 import com.intellij.psi.util.CachedValueProvider;
 import com.intellij.psi.util.CachedValuesManager;
 import com.jetbrains.python.psi.*;
+import com.jetbrains.python.psi.stubs.PyClassStub;
 import dev.ngocta.pycharm.odoo.OdooNames;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -13,10 +14,14 @@ public class OdooModelInfo {
     private final String myName;
     private final List<String> myInherit;
     private final Map<String, String> myInherits;
+    private final String myClassName;
+    private final int myTextOffset;
 
-    private OdooModelInfo(@NotNull String name,
-                          @Nullable List<String> inherit,
-                          @Nullable Map<String, String> inherits) {
+    OdooModelInfo(@NotNull String name,
+                  @Nullable List<String> inherit,
+                  @Nullable Map<String, String> inherits,
+                  @Nullable String className,
+                  int textOffset) {
         myName = name;
         if (inherit == null) {
             inherit = Collections.emptyList();
@@ -26,6 +31,8 @@ public class OdooModelInfo {
             inherits = Collections.emptyMap();
         }
         myInherits = inherits;
+        myClassName = className;
+        myTextOffset = textOffset;
     }
 
     @NotNull
@@ -43,6 +50,15 @@ public class OdooModelInfo {
         return myInherits;
     }
 
+    @Nullable
+    public String getClassName() {
+        return myClassName;
+    }
+
+    public int getTextOffset() {
+        return myTextOffset;
+    }
+
     public boolean isOriginal() {
         return !myInherit.contains(myName) && !myInherits.containsKey(myName);
     }
@@ -57,6 +73,45 @@ public class OdooModelInfo {
 
     @Nullable
     private static OdooModelInfo getInfoInner(@NotNull PyClass pyClass) {
+        String model;
+        List<String> inherit;
+        Map<String, String> inherits = new HashMap<>();
+        int textOffset = -1;
+        PyClassStub stub = pyClass.getStub();
+        if (stub != null) {
+            OdooModelClassStub modelStub = stub.getCustomStub(OdooModelClassStub.class);
+            if (modelStub == null) {
+                return null;
+            }
+            model = modelStub.getName();
+            inherit = modelStub.getInherit();
+            inherits.putAll(modelStub.getInherits());
+        } else {
+            OdooModelInfo info = parseModelAttributes(pyClass);
+            if (info == null) {
+                return null;
+            }
+            model = info.getName();
+            inherit = info.getInherit();
+            inherits.putAll(info.getInherits());
+            textOffset = pyClass.getTextOffset();
+        }
+        pyClass.visitClassAttributes(attr -> {
+            String attrName = attr.getName();
+            if (attrName != null) {
+                OdooFieldInfo info = OdooFieldInfo.getSyntacticInfo(attr);
+                if (info != null && info.isDelegate() && info.getComodel() != null) {
+                    inherits.put(info.getComodel(), attrName);
+                }
+            }
+            return true;
+        }, false, null);
+
+        return new OdooModelInfo(model, inherit, inherits, pyClass.getName(), textOffset);
+    }
+
+    @Nullable
+    static OdooModelInfo parseModelAttributes(@NotNull PyClass pyClass) {
         String model = null;
         List<String> inherit = new LinkedList<>();
         Map<String, String> inherits = new HashMap<>();
@@ -100,17 +155,6 @@ public class OdooModelInfo {
                 });
             }
         }
-        pyClass.visitClassAttributes(attr -> {
-            String attrName = attr.getName();
-            if (attrName != null) {
-                OdooFieldInfo info = OdooFieldInfo.getInfo(attr);
-                if (info != null && info.isDelegate() && info.getComodel() != null) {
-                    inherits.put(info.getComodel(), attrName);
-                }
-            }
-            return true;
-        }, false, null);
-
-        return new OdooModelInfo(model, inherit, inherits);
+        return new OdooModelInfo(model, inherit, inherits, pyClass.getName(), -1);
     }
 }
@@ -0,0 +1,50 @@
+package dev.ngocta.pycharm.odoo.python.model;
+
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import dev.ngocta.pycharm.odoo.OdooUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.*;
+
+class OdooModelInfoExternalizer implements DataExternalizer<OdooModelInfo> {
+    public static final OdooModelInfoExternalizer INSTANCE = new OdooModelInfoExternalizer();
+
+    @Override
+    public void save(@NotNull DataOutput out,
+                     OdooModelInfo value) throws IOException {
+        out.writeUTF(value.getName());
+        OdooUtils.writeNullableString(value.getClassName(), out);
+        DataInputOutputUtil.writeINT(out, value.getTextOffset());
+        DataInputOutputUtil.writeINT(out, value.getInherit().size());
+        for (String inherit : value.getInherit()) {
+            out.writeUTF(inherit);
+        }
+        DataInputOutputUtil.writeINT(out, value.getInherits().size());
+        for (Map.Entry<String, String> entry : value.getInherits().entrySet()) {
+            out.writeUTF(entry.getKey());
+            out.writeUTF(entry.getValue());
+        }
+    }
+
+    @Override
+    public OdooModelInfo read(@NotNull DataInput in) throws IOException {
+        String name = in.readUTF();
+        String className = OdooUtils.readNullableString(in);
+        int textOffset = DataInputOutputUtil.readINT(in);
+        int inheritSize = DataInputOutputUtil.readINT(in);
+        List<String> inherit = new ArrayList<>(inheritSize);
+        for (int i = 0; i < inheritSize; i++) {
+            inherit.add(in.readUTF());
+        }
+        int inheritsSize = DataInputOutputUtil.readINT(in);
+        Map<String, String> inherits = new HashMap<>(inheritsSize);
+        for (int i = 0; i < inheritsSize; i++) {
+            inherits.put(in.readUTF(), in.readUTF());
+        }
+        return new OdooModelInfo(name, inherit, inherits, className, textOffset);
+    }
+}
@@ -12,7 +12,6 @@ import com.intellij.util.io.EnumeratorStringDescriptor;
 import com.intellij.util.io.KeyDescriptor;
 import com.intellij.util.io.VoidDataExternalizer;
 import com.jetbrains.python.psi.PyClass;
-import com.jetbrains.python.psi.PyElementVisitor;
 import com.jetbrains.python.psi.PyFile;
 import org.jetbrains.annotations.NotNull;
 
@@ -32,20 +31,13 @@ public class OdooModelInheritIndex extends FileBasedIndexExtension<String, Void>
     public DataIndexer<String, Void, FileContent> getIndexer() {
         return inputData -> {
             Map<String, Void> result = new HashMap<>();
-            inputData.getPsiFile().acceptChildren(new PyElementVisitor() {
-                @Override
-                public void visitPyClass(PyClass node) {
-                    super.visitPyClass(node);
-                    OdooModelInfo info = OdooModelInfo.getInfo(node);
-                    if (info != null) {
-                        for (String s : info.getInherit()) {
-                            if (!s.equals(info.getName())) {
-                                result.putIfAbsent(s, null);
-                            }
-                        }
+            for (OdooModelInfo info : OdooModelFileInfo.getInfo(inputData).getModels()) {
+                for (String s : info.getInherit()) {
+                    if (!s.equals(info.getName())) {
+                        result.putIfAbsent(s, null);
                     }
                 }
-            });
+            }
             return result;
         };
     }
@@ -64,7 +56,7 @@ public class OdooModelInheritIndex extends FileBasedIndexExtension<String, Void>
 
     @Override
     public int getVersion() {
-        return 4;
+        return 5;
     }
 
     @NotNull
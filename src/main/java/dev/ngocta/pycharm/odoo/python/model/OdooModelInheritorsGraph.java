@@ -0,0 +1,131 @@
+package dev.ngocta.pycharm.odoo.python.model;
+
+import com.google.common.collect.ImmutableList;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.jetbrains.python.psi.PyClass;
+import dev.ngocta.pycharm.odoo.OdooStructureModificationTracker;
+import dev.ngocta.pycharm.odoo.python.module.OdooModule;
+import dev.ngocta.pycharm.odoo.python.module.OdooModuleUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reverse inheritance graph of the models visible from a module and its extensions: for each model, the models
+ * deriving from it through {@code _inherit} under another name, and the classes declaring it. The derived models are
+ * read once from the index values of the scope; the classes are looked up for the models actually visited.
+ */
+class OdooModelInheritorsGraph {
+    private final Project myProject;
+    private final GlobalSearchScope myScope;
+    private final Map<String, List<String>> myDerivedModels;
+    private final Map<String, List<PyClass>> myModelClasses = new ConcurrentHashMap<>();
+
+    private OdooModelInheritorsGraph(@NotNull Project project,
+                                     @NotNull GlobalSearchScope scope,
+                                     @NotNull Map<String, List<String>> derivedModels) {
+        myProject = project;
+        myScope = scope;
+        myDerivedModels = derivedModels;
+    }
+
+    @NotNull
+    static OdooModelInheritorsGraph getInstance(@NotNull OdooModule module) {
+        Project project = module.getProject();
+        return CachedValuesManager.getManager(project).getCachedValue(module, () -> {
+            GlobalSearchScope scope = module.getOdooModuleWithExtensionsScope();
+            OdooModelInheritorsGraph graph = new OdooModelInheritorsGraph(project, scope, buildDerivedModels(project, scope));
+            return CachedValueProvider.Result.create(graph, OdooStructureModificationTracker.getInstance(project));
+        });
+    }
+
+    @NotNull
+    private static Map<String, List<String>> buildDerivedModels(@NotNull Project project,
+                                                                @NotNull GlobalSearchScope scope) {
+        FileBasedIndex index = FileBasedIndex.getInstance();
+        List<String> inheritedModels = new ArrayList<>();
+        index.processAllKeys(OdooModelInheritIndex.NAME, inheritedModels::add, scope, null);
+        Set<VirtualFile> files = new HashSet<>();
+        for (String inheritedModel : inheritedModels) {
+            files.addAll(index.getContainingFiles(OdooModelInheritIndex.NAME, inheritedModel, scope));
+        }
+        Map<String, Set<String>> derivedModels = new HashMap<>();
+        for (VirtualFile file : files) {
+            index.getFileData(OdooModelIndex.NAME, file, project).forEach((derivedModel, infos) -> {
+                for (OdooModelInfo info : infos) {
+                    for (String inheritedModel : info.getInherit()) {
+                        if (!inheritedModel.equals(derivedModel)) {
+                            derivedModels.computeIfAbsent(inheritedModel, k -> new LinkedHashSet<>()).add(derivedModel);
+                        }
+                    }
+                }
+            });
+        }
+        Map<String, List<String>> result = new HashMap<>();
+        derivedModels.forEach((model, models) -> result.put(model, ImmutableList.copyOf(models)));
+        return result;
+    }
+
+    @NotNull
+    List<String> getDerivedModels(@NotNull String model) {
+        return myDerivedModels.getOrDefault(model, Collections.emptyList());
+    }
+
+    @NotNull
+    List<PyClass> getModelClasses(@NotNull String model) {
+        List<PyClass> classes = myModelClasses.get(model);
+        if (classes == null) {
+            List<PyClass> found = OdooModelIndex.getOdooModelClassesByName(model, myProject, myScope);
+            classes = ImmutableList.copyOf(OdooModuleUtils.sortElementByOdooModuleDependOrder(found, true));
+            List<PyClass> existing = myModelClasses.putIfAbsent(model, classes);
+            if (existing != null) {
+                classes = existing;
+            }
+        }
+        return classes;
+    }
+
+    /**
+     * @return the classes extending {@code superClass}, or null if it is not an Odoo model class inside a module
+     */
+    @Nullable
+    static List<PyClass> getInheritors(@NotNull PyClass superClass) {
+        OdooModelClass modelClass = OdooModelUtils.getContainingOdooModelClass(superClass);
+        if (modelClass == null) {
+            return null;
+        }
+        OdooModule module = OdooModuleUtils.getContainingOdooModule(superClass);
+        if (module == null) {
+            return null;
+        }
+        OdooModelInheritorsGraph graph = getInstance(module);
+        Set<PsiElement> ancestors = new HashSet<>(OdooModelUtils.getModelClassAncestors(superClass, null));
+        List<PyClass> result = new ArrayList<>();
+        Set<String> visitedModels = new HashSet<>();
+        Deque<String> toVisitModels = new ArrayDeque<>();
+        visitedModels.add(modelClass.getName());
+        toVisitModels.add(modelClass.getName());
+        while (!toVisitModels.isEmpty()) {
+            String model = toVisitModels.poll();
+            for (PyClass cls : graph.getModelClasses(model)) {
+                if (!superClass.equals(cls) && !ancestors.contains(cls)) {
+                    result.add(cls);
+                }
+            }
+            for (String derivedModel : graph.getDerivedModels(model)) {
+                if (visitedModels.add(derivedModel)) {
+                    toVisitModels.add(derivedModel);
+                }
+            }
+        }
+        return result;
+    }
+}
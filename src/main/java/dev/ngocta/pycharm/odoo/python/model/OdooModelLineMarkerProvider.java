@@ -134,7 +134,7 @@ public class OdooModelLineMarkerProvider implements LineMarkerProvider {
         }
         final Set<PyTargetExpression> overridden = new HashSet<>();
         for (final PyClass pyClass : classes) {
-            PyClassInheritorsSearch.search(pyClass, true).forEach(inheritor -> {
+            for (PyClass inheritor : getInheritors(pyClass)) {
                 for (Iterator<PyTargetExpression> it = candidates.get(pyClass).iterator(); it.hasNext(); ) {
                     PyTargetExpression attribute = it.next();
                     if (attribute.getName() != null && inheritor.findClassAttribute(attribute.getName(), false, null) != null) {
@@ -142,8 +142,8 @@ public class OdooModelLineMarkerProvider implements LineMarkerProvider {
                         it.remove();
                     }
                 }
-                return !candidates.isEmpty();
-            });
+                if (candidates.isEmpty()) break;
+            }
             if (candidates.isEmpty()) break;
         }
         for (PyTargetExpression attribute : overridden) {
@@ -157,7 +157,7 @@ public class OdooModelLineMarkerProvider implements LineMarkerProvider {
                 if (cls == null) {
                     return;
                 }
-                for (PyClass ancestorInner : PyClassInheritorsSearch.search(cls, true)) {
+                for (PyClass ancestorInner : getInheritors(cls)) {
                     PyTargetExpression attributeInner = ancestorInner.findClassAttribute(attribute.getName(), false, null);
                     if (attributeInner != null) {
                         navElements.add(attributeInner);
@@ -176,4 +176,13 @@ public class OdooModelLineMarkerProvider implements LineMarkerProvider {
             result.add(maker);
         }
     }
+
+    @NotNull
+    private static Iterable<PyClass> getInheritors(@NotNull PyClass cls) {
+        List<PyClass> inheritors = OdooModelInheritorsGraph.getInheritors(cls);
+        if (inheritors != null) {
+            return inheritors;
+        }
+        return PyClassInheritorsSearch.search(cls, true);
+    }
 }
@@ -0,0 +1,168 @@
+package dev.ngocta.pycharm.odoo.python.model;
+
+import com.google.common.collect.ImmutableList;
+import com.intellij.openapi.util.RecursionGuard;
+import com.intellij.openapi.util.RecursionManager;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiNamedElement;
+import com.jetbrains.python.psi.PyClass;
+import com.jetbrains.python.psi.types.TypeEvalContext;
+import dev.ngocta.pycharm.odoo.OdooUtils;
+import dev.ngocta.pycharm.odoo.python.module.OdooModelScope;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+class OdooModelMembers {
+    private static final RecursionGuard<String> ourRecursionGuard = RecursionManager.createGuard("odoo.model.members");
+
+    private final List<PsiElement> myMembers;
+    private final Map<String, List<PsiElement>> myMembersByName;
+    private final Map<String, PsiElement> myFieldsByName;
+    private final List<PsiElement> myFields;
+    private final Map<String, String> myDelegations;
+    private final Map<PsiElement, String> myDelegationPaths;
+    private volatile Object[] myLookupElements;
+    private volatile Object[] myFieldLookupElements;
+
+    private OdooModelMembers(@NotNull List<PsiElement> members,
+                             @NotNull Map<String, String> delegations,
+                             @NotNull Map<PsiElement, String> delegationPaths) {
+        myMembers = ImmutableList.copyOf(members);
+        Map<String, List<PsiElement>> membersByName = new HashMap<>();
+        Map<String, PsiElement> fieldsByName = new HashMap<>();
+        List<PsiElement> fields = new ArrayList<>();
+        for (PsiElement member : myMembers) {
+            if (member instanceof PsiNamedElement) {
+                String name = ((PsiNamedElement) member).getName();
+                if (name != null) {
+                    membersByName.computeIfAbsent(name, k -> new ArrayList<>(1)).add(member);
+                }
+            }
+            OdooFieldInfo fieldInfo = OdooFieldInfo.getInfo(member);
+            if (fieldInfo != null) {
+                fields.add(member);
+                fieldsByName.putIfAbsent(fieldInfo.getName(), member);
+            }
+        }
+        membersByName.replaceAll((name, elements) -> ImmutableList.copyOf(elements));
+        myMembersByName = membersByName;
+        myFieldsByName = fieldsByName;
+        myFields = ImmutableList.copyOf(fields);
+        myDelegations = Collections.unmodifiableMap(delegations);
+        myDelegationPaths = delegationPaths;
+    }
+
+    @NotNull
+    static OdooModelMembers getInstance(@NotNull OdooModelClass modelClass,
+                                        @NotNull TypeEvalContext context) {
+        OdooModelScope scope = OdooModelScope.getInstance(context.getOrigin());
+        if (scope == null) {
+            return computePreventingRecursion(modelClass, context);
+        }
+        return OdooUtils.getParameterizedCachedValue(scope, modelClass.getName(), param -> computePreventingRecursion(modelClass, context));
+    }
+
+    /**
+     * Inside a delegation cycle the model is computed without its delegated fields. The recursion guard marks the
+     * stack in that case, so none of the results depending on it are cached.
+     */
+    @NotNull
+    private static OdooModelMembers computePreventingRecursion(@NotNull OdooModelClass modelClass,
+                                                               @NotNull TypeEvalContext context) {
+        OdooModelMembers members = ourRecursionGuard.doPreventingRecursion(modelClass.getName(), false, () -> {
+            return compute(modelClass, context, true);
+        });
+        if (members == null) {
+            members = compute(modelClass, context, false);
+        }
+        return members;
+    }
+
+    @NotNull
+    private static OdooModelMembers compute(@NotNull OdooModelClass modelClass,
+                                            @NotNull TypeEvalContext context,
+                                            boolean includeDelegatedFields) {
+        List<PsiElement> members = new ArrayList<>();
+        for (PyClass cls : modelClass.getAncestorClasses(context)) {
+            cls.processClassLevelDeclarations((element, state) -> {
+                members.add(element);
+                return true;
+            });
+        }
+        Map<String, String> delegations = new LinkedHashMap<>();
+        for (PyClass cls : modelClass.getExplicitAncestorClasses(context)) {
+            OdooModelInfo info = OdooModelInfo.getInfo(cls);
+            if (info != null) {
+                info.getInherits().forEach(delegations::putIfAbsent);
+            }
+        }
+        Map<PsiElement, String> delegationPaths = new HashMap<>();
+        if (includeDelegatedFields && !delegations.isEmpty()) {
+            Set<PsiElement> ownMembers = new HashSet<>(members);
+            delegations.forEach((model, fieldName) -> {
+                OdooModelClass delegatedClass = OdooModelClass.getInstance(model, modelClass.getProject());
+                OdooModelMembers delegatedMembers = getInstance(delegatedClass, context);
+                for (PsiElement field : delegatedMembers.getFields()) {
+                    if (!ownMembers.contains(field) && !delegationPaths.containsKey(field)) {
+                        String path = delegatedMembers.getDelegationPath(field);
+                        delegationPaths.put(field, path != null ? fieldName + "." + path : fieldName);
+                        members.add(field);
+                    }
+                }
+            });
+        }
+        return new OdooModelMembers(members, delegations, delegationPaths);
+    }
+
+    @NotNull
+    List<PsiElement> getMembers() {
+        return myMembers;
+    }
+
+    @NotNull
+    List<PsiElement> getMembers(@NotNull String name) {
+        return myMembersByName.getOrDefault(name, Collections.emptyList());
+    }
+
+    @NotNull
+    List<PsiElement> getFields() {
+        return myFields;
+    }
+
+    @Nullable
+    PsiElement findField(@NotNull String name) {
+        return myFieldsByName.get(name);
+    }
+
+    @NotNull
+    Map<String, String> getDelegations() {
+        return myDelegations;
+    }
+
+    @Nullable
+    String getDelegationPath(@NotNull PsiElement field) {
+        return myDelegationPaths.get(field);
+    }
+
+    @NotNull
+    Object[] getLookupElements() {
+        Object[] lookupElements = myLookupElements;
+        if (lookupElements == null) {
+            lookupElements = OdooModelUtils.createLookupElements(myMembers);
+            myLookupElements = lookupElements;
+        }
+        return lookupElements.clone();
+    }
+
+    @NotNull
+    Object[] getFieldLookupElements() {
+        Object[] lookupElements = myFieldLookupElements;
+        if (lookupElements == null) {
+            lookupElements = OdooModelUtils.createLookupElements(myFields);
+            myFieldLookupElements = lookupElements;
+        }
+        return lookupElements.clone();
+    }
+}
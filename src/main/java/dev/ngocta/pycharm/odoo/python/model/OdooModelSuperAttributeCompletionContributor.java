@@ -40,7 +40,7 @@ public class OdooModelSuperAttributeCompletionContributor extends CompletionCont
                         Set<String> seenNames = new THashSet<>();
                         for (PyClass ancestor : unknownAncestors) {
                             ancestor.visitClassAttributes(pyTargetExpression -> {
-                                LookupElement lookupElement = OdooModelUtils.createLookupElement(pyTargetExpression, typeEvalContext);
+                                LookupElement lookupElement = OdooModelUtils.createLookupElement(pyTargetExpression);
                                 if (lookupElement != null && !seenNames.contains(lookupElement.getLookupString())) {
                                     seenNames.add(lookupElement.getLookupString());
                                     result.consume(lookupElement);
@@ -12,6 +12,7 @@ import com.jetbrains.python.psi.types.TypeEvalContext;
 import com.jetbrains.python.pyi.PyiUtil;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -44,7 +45,7 @@ public class OdooModelSuperMethodCompletionContributor extends CompletionContrib
                             seenNames.add(function.getName());
                         }
                         TypeEvalContext typeEvalContext = TypeEvalContext.codeCompletion(position.getProject(), parameters.getOriginalFile());
-                        List<PyClass> ancestors = modelClass.getAncestorClasses(typeEvalContext);
+                        List<PyClass> ancestors = new ArrayList<>(modelClass.getAncestorClasses(typeEvalContext));
                         ancestors.remove(containingClass);
                         for (PyClass ancestor : ancestors) {
                             if (PyiUtil.isInsideStub(ancestor)) {
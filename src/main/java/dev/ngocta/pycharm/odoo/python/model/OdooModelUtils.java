@@ -6,6 +6,8 @@ import com.intellij.codeInsight.completion.InsertHandler;
 import com.intellij.codeInsight.completion.PrioritizedLookupElement;
 import com.intellij.codeInsight.lookup.LookupElement;
 import com.intellij.codeInsight.lookup.LookupElementBuilder;
+import com.intellij.codeInsight.lookup.LookupElementPresentation;
+import com.intellij.codeInsight.lookup.LookupElementRenderer;
 import com.intellij.openapi.project.DumbService;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.Computable;
@@ -14,6 +16,8 @@ import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.patterns.PatternCondition;
 import com.intellij.patterns.PsiElementPattern;
 import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
 import com.intellij.psi.PsiNamedElement;
 import com.intellij.psi.PsiReference;
 import com.intellij.psi.search.GlobalSearchScope;
@@ -26,6 +30,7 @@ import com.intellij.util.ArrayUtil;
 import com.intellij.util.ObjectUtils;
 import com.intellij.util.PlatformIcons;
 import com.intellij.util.ProcessingContext;
+import com.intellij.util.indexing.FileBasedIndex;
 import com.intellij.util.xml.DomElement;
 import com.intellij.util.xml.DomManager;
 import com.intellij.util.xml.GenericValue;
@@ -54,6 +59,37 @@ public class OdooModelUtils {
             .put(OdooNames.IR_ACTIONS_ACT_WINDOW_FIELD_DOMAIN, OdooNames.IR_ACTIONS_ACT_WINDOW_FIELD_RES_MODEL)
             .build();
 
+    /**
+     * Lookup elements of model members are shared by all completions in a model scope, so type and parameter text is
+     * computed on rendering, with a context of the member's own file rather than of the first completion.
+     */
+    private static final LookupElementRenderer<LookupElement> LOOKUP_ELEMENT_RENDERER = new LookupElementRenderer<LookupElement>() {
+        @Override
+        public void renderElement(LookupElement element,
+                                  LookupElementPresentation presentation) {
+            presentation.setItemText(element.getLookupString());
+            PsiElement psiElement = element.getPsiElement();
+            if (psiElement == null || !psiElement.isValid()) {
+                return;
+            }
+            presentation.setIcon(psiElement.getIcon(Iconable.ICON_FLAG_READ_STATUS));
+            TypeEvalContext context = TypeEvalContext.codeAnalysis(psiElement.getProject(), psiElement.getContainingFile());
+            OdooFieldInfo fieldInfo = OdooFieldInfo.getInfo(psiElement);
+            if (fieldInfo != null) {
+                String typeText = fieldInfo.getTypeName();
+                PyType type = fieldInfo.getType(context);
+                if (type instanceof OdooModelClassType) {
+                    typeText = "(" + type.getName() + ") " + typeText;
+                }
+                presentation.setTypeText(typeText);
+            } else if (psiElement instanceof PyFunction && ((PyFunction) psiElement).getProperty() == null) {
+                List<PyCallableParameter> params = ((PyFunction) psiElement).getParameters(context);
+                String paramsText = StringUtil.join(params, PyCallableParameter::getName, ", ");
+                presentation.setTailText("(" + paramsText + ")");
+            }
+        }
+    };
+
     private OdooModelUtils() {
     }
 
@@ -77,21 +113,13 @@ public class OdooModelUtils {
     }
 
     @Nullable
-    public static LookupElement createLookupElement(@NotNull PsiElement element,
-                                                    @NotNull TypeEvalContext context) {
+    public static LookupElement createLookupElement(@NotNull PsiElement element) {
         String name;
-        String typeText = null;
-        String tailText = null;
         double priority = 0;
         InsertHandler<LookupElement> insertHandler = new BasicInsertHandler<>();
         OdooFieldInfo fieldInfo = OdooFieldInfo.getInfo(element);
         if (fieldInfo != null) {
             name = fieldInfo.getName();
-            typeText = fieldInfo.getTypeName();
-            PyType type = fieldInfo.getType(context);
-            if (type instanceof OdooModelClassType) {
-                typeText = "(" + type.getName() + ") " + typeText;
-            }
             priority = COMPLETION_PRIORITY_FIELD;
         } else if (element instanceof PsiNamedElement) {
             name = ((PsiNamedElement) element).getName();
@@ -99,9 +127,6 @@ public class OdooModelUtils {
                 return null;
             }
             if (element instanceof PyFunction && ((PyFunction) element).getProperty() == null) {
-                List<PyCallableParameter> params = ((PyFunction) element).getParameters(context);
-                String paramsText = StringUtil.join(params, PyCallableParameter::getName, ", ");
-                tailText = "(" + paramsText + ")";
                 priority = COMPLETION_PRIORITY_FUNCTION;
                 insertHandler = PyFunctionInsertHandler.INSTANCE;
             }
@@ -110,10 +135,8 @@ public class OdooModelUtils {
         }
         LookupElement lookupElementBuilder = LookupElementBuilder.create(name)
                 .withPsiElement(element)
-                .withTailText(tailText)
-                .withTypeText(typeText)
-                .withIcon(element.getIcon(Iconable.ICON_FLAG_READ_STATUS))
-                .withInsertHandler(insertHandler);
+                .withInsertHandler(insertHandler)
+                .withRenderer(LOOKUP_ELEMENT_RENDERER);
         return PrioritizedLookupElement.withPriority(lookupElementBuilder, priority);
     }
 
@@ -128,11 +151,10 @@ public class OdooModelUtils {
                 PsiElement parent = stringExpression.getParent();
                 if (parent instanceof PyArgumentList || parent instanceof PyKeywordArgument) {
                     PyCallExpression callExpression = PsiTreeUtil.getParentOfType(parent, PyCallExpression.class);
-                    if (callExpression != null && isKnownFieldDeclarationExpression(callExpression)) {
-                        PyExpression callee = callExpression.getCallee();
-                        if (callee instanceof PyReferenceExpression) {
-                            String calleeName = callee.getName();
-                            if (calleeName != null && (fieldType.length == 0 || Arrays.asList(fieldType).contains(calleeName))) {
+                    if (callExpression != null) {
+                        String typeName = OdooFieldDetector.getFieldTypeName(callExpression);
+                        if (typeName != null) {
+                            if (fieldType.length == 0 || Arrays.asList(fieldType).contains(typeName)) {
                                 PyStringLiteralExpression argExpression;
                                 if (index >= 0) {
                                     argExpression = callExpression.getArgument(index, keyword, PyStringLiteralExpression.class);
@@ -150,12 +172,7 @@ public class OdooModelUtils {
     }
 
     public static boolean isKnownFieldDeclarationExpression(@NotNull PyCallExpression callExpression) {
-        PyExpression callee = callExpression.getCallee();
-        if (callee instanceof PyReferenceExpression) {
-            String calleeName = callee.getName();
-            return ArrayUtil.contains(calleeName, OdooNames.FIELD_TYPES);
-        }
-        return false;
+        return OdooFieldDetector.getFieldTypeName(callExpression) != null;
     }
 
     public static boolean isFieldDeclarationExpression(@NotNull PyCallExpression callExpression) {
@@ -512,14 +529,7 @@ public class OdooModelUtils {
     public static Collection<PsiElement> findFields(@NotNull String name,
                                                     @NotNull Project project,
                                                     @NotNull GlobalSearchScope scope) {
-        Collection<PyTargetExpression> attributes = OdooPyUtils.findClassAttributes(name, project, scope);
-        List<PsiElement> fields = new LinkedList<>();
-        for (PsiElement attribute : attributes) {
-            if (OdooFieldInfo.getInfo(attribute) != null) {
-                fields.add(attribute);
-            }
-        }
-        return fields;
+        return OdooFieldIndex.findFields(name, project, scope);
     }
 
     @NotNull
@@ -536,14 +546,31 @@ public class OdooModelUtils {
     public static PyType guessFieldTypeByName(@NotNull String name,
                                               @NotNull PsiElement anchor,
                                               @NotNull TypeEvalContext context) {
-        Collection<PsiElement> fields = findFields(name, anchor);
+        OdooModule module = OdooModuleUtils.getContainingOdooModule(anchor);
+        if (module == null) {
+            return null;
+        }
+        PsiManager psiManager = PsiManager.getInstance(anchor.getProject());
         Set<PyType> types = new HashSet<>();
-        for (PsiElement field : fields) {
-            PyType type = OdooFieldInfo.getFieldType(field, context);
-            if (type != null) {
-                types.add(type);
+        FileBasedIndex.getInstance().processValues(OdooFieldIndex.NAME, name, null, (file, infos) -> {
+            for (OdooFieldInfo info : infos) {
+                PyType type = info.getType(context);
+                if (type == null && info.getRelated() != null) {
+                    PsiFile psiFile = psiManager.findFile(file);
+                    if (psiFile instanceof PyFile) {
+                        for (PsiElement field : OdooFieldIndex.findFieldsInFile(Collections.singletonList(info), (PyFile) psiFile)) {
+                            PyType fieldType = OdooFieldInfo.getFieldType(field, context);
+                            if (fieldType != null) {
+                                types.add(fieldType);
+                            }
+                        }
+                    }
+                } else if (type != null) {
+                    types.add(type);
+                }
             }
-        }
+            return true;
+        }, module.getOdooModuleWithDependenciesScope());
         if (types.size() == 1) {
             return types.iterator().next();
         }
@@ -565,7 +592,7 @@ public class OdooModelUtils {
     @NotNull
     public static List<PyClass> getUnknownModelClassAncestors(@NotNull PyClass cls,
                                                               @NotNull TypeEvalContext context) {
-        List<PyClass> ancestors = getModelClassAncestors(cls, context);
+        List<PyClass> ancestors = new ArrayList<>(getModelClassAncestors(cls, context));
         ancestors.removeAll(cls.getAncestorClasses(context));
         return ancestors;
     }
@@ -591,15 +618,21 @@ public class OdooModelUtils {
     @NotNull
     public static Object[] getFieldLookupElements(@NotNull OdooModelClass cls,
                                                   @NotNull TypeEvalContext context) {
-        Map<String, LookupElement> lookupElementMap = new LinkedHashMap<>();
-        cls.visitField(field -> {
-            LookupElement lookupElement = createLookupElement(field, context);
+        return OdooModelMembers.getInstance(cls, context).getFieldLookupElements();
+    }
+
+    @NotNull
+    public static Object[] createLookupElements(@NotNull Iterable<PsiElement> elements) {
+        Map<String, LookupElement> lookupElementMap = new HashMap<>();
+        for (PsiElement element : elements) {
+            LookupElement lookupElement = createLookupElement(element);
             if (lookupElement != null) {
                 lookupElementMap.putIfAbsent(lookupElement.getLookupString(), lookupElement);
             }
-            return true;
-        }, context);
-        return lookupElementMap.values().toArray();
+        }
+        return lookupElementMap.values().stream()
+                .sorted(Comparator.comparing(LookupElement::getLookupString))
+                .toArray();
     }
 
     @NotNull
@@ -0,0 +1,68 @@
+package dev.ngocta.pycharm.odoo.python.model;
+
+import com.intellij.psi.PsiElement;
+import com.jetbrains.python.psi.types.TypeEvalContext;
+import dev.ngocta.pycharm.odoo.OdooUtils;
+import dev.ngocta.pycharm.odoo.python.module.OdooModelScope;
+import gnu.trove.THashSet;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Set;
+
+class OdooRelatedFieldGraph {
+    private static final ThreadLocal<Set<PsiElement>> ourResolvingFields = ThreadLocal.withInitial(THashSet::new);
+
+    private OdooRelatedFieldGraph() {
+    }
+
+    @Nullable
+    static PsiElement getTerminalField(@NotNull PsiElement field) {
+        Set<PsiElement> resolvingFields = ourResolvingFields.get();
+        if (resolvingFields.contains(field)) {
+            return null;
+        }
+        OdooModelScope scope = OdooModelScope.getInstance(field);
+        if (scope == null) {
+            return computeTerminalField(field, resolvingFields);
+        }
+        return OdooUtils.getNullableParameterizedCachedValue(scope, field, param -> {
+            return computeTerminalField(field, resolvingFields);
+        });
+    }
+
+    @Nullable
+    static String getComodel(@NotNull PsiElement field) {
+        PsiElement terminalField = getTerminalField(field);
+        OdooFieldInfo info = OdooFieldInfo.getInfo(terminalField);
+        return info != null ? info.getComodelName() : null;
+    }
+
+    @Nullable
+    private static PsiElement computeTerminalField(@NotNull PsiElement field,
+                                                   @NotNull Set<PsiElement> resolvingFields) {
+        resolvingFields.add(field);
+        try {
+            OdooFieldInfo info = OdooFieldInfo.getInfo(field);
+            if (info == null) {
+                return null;
+            }
+            String related = info.getRelated();
+            if (info.getComodelName() != null || related == null || related.equals(info.getName())) {
+                return field;
+            }
+            OdooModelClass cls = OdooModelUtils.getContainingOdooModelClass(field);
+            if (cls == null) {
+                return field;
+            }
+            TypeEvalContext context = TypeEvalContext.userInitiated(field.getProject(), field.getContainingFile());
+            PsiElement relatedField = OdooFieldPathResolver.resolveField(cls, related, context);
+            if (relatedField == null) {
+                return field;
+            }
+            return getTerminalField(relatedField);
+        } finally {
+            resolvingFields.remove(field);
+        }
+    }
+}
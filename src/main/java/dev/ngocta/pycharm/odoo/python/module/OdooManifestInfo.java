@@ -1,27 +1,51 @@
 package dev.ngocta.pycharm.odoo.python.module;
 
 import com.intellij.psi.PsiFile;
-import com.intellij.psi.util.CachedValueProvider;
-import com.intellij.psi.util.CachedValuesManager;
 import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.util.ArrayUtil;
 import com.jetbrains.python.psi.*;
 import dev.ngocta.pycharm.odoo.OdooNames;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 public class OdooManifestInfo {
     private final String myName;
     private final String mySummary;
+    private final String myVersion;
     private final String[] myDepends;
+    private final String[] myData;
+    private final String[] myDemo;
+    private final String[] myQweb;
+    private final Map<String, String[]> myAssets;
+    private final boolean myAutoInstall;
+    private final boolean myInstallable;
 
-    private OdooManifestInfo(@Nullable String name,
-                             @Nullable String summary,
-                             @Nullable String[] depends) {
+    OdooManifestInfo(@Nullable String name,
+                     @Nullable String summary,
+                     @Nullable String version,
+                     @Nullable String[] depends,
+                     @NotNull String[] data,
+                     @NotNull String[] demo,
+                     @NotNull String[] qweb,
+                     @NotNull Map<String, String[]> assets,
+                     boolean autoInstall,
+                     boolean installable) {
         myName = name;
         mySummary = summary;
+        myVersion = version;
         myDepends = depends;
+        myData = data;
+        myDemo = demo;
+        myQweb = qweb;
+        myAssets = assets;
+        myAutoInstall = autoInstall;
+        myInstallable = installable;
     }
 
     @Nullable
@@ -34,21 +58,46 @@ public class OdooManifestInfo {
         return mySummary;
     }
 
+    @Nullable
+    public String getVersion() {
+        return myVersion;
+    }
+
     @Nullable
     public String[] getDepends() {
         return myDepends;
     }
 
-    @Nullable
-    public static OdooManifestInfo parseManifest(@NotNull PsiFile manifest) {
-        return CachedValuesManager.getCachedValue(manifest, () -> {
-            OdooManifestInfo info = doParseManifest(manifest);
-            return CachedValueProvider.Result.create(info, manifest);
-        });
+    @NotNull
+    public String[] getData() {
+        return myData;
+    }
+
+    @NotNull
+    public String[] getDemo() {
+        return myDemo;
+    }
+
+    @NotNull
+    public String[] getQweb() {
+        return myQweb;
+    }
+
+    @NotNull
+    public Map<String, String[]> getAssets() {
+        return myAssets;
+    }
+
+    public boolean isAutoInstall() {
+        return myAutoInstall;
+    }
+
+    public boolean isInstallable() {
+        return myInstallable;
     }
 
     @Nullable
-    private static OdooManifestInfo doParseManifest(@NotNull PsiFile manifest) {
+    static OdooManifestInfo doParseManifest(@NotNull PsiFile manifest) {
         PyDictLiteralExpression dictExpression = PsiTreeUtil.findChildOfType(manifest, PyDictLiteralExpression.class);
         if (dictExpression == null) {
             return null;
@@ -56,7 +105,14 @@ public class OdooManifestInfo {
 
         String name = null;
         String summary = null;
+        String version = null;
         List<String> depends = null;
+        String[] data = ArrayUtil.EMPTY_STRING_ARRAY;
+        String[] demo = ArrayUtil.EMPTY_STRING_ARRAY;
+        String[] qweb = ArrayUtil.EMPTY_STRING_ARRAY;
+        Map<String, String[]> assets = Collections.emptyMap();
+        boolean autoInstall = false;
+        boolean installable = true;
         for (PyKeyValueExpression kvExpression : dictExpression.getElements()) {
             PyExpression key = kvExpression.getKey();
             if (key instanceof PyStringLiteralExpression) {
@@ -66,8 +122,32 @@ public class OdooManifestInfo {
                     name = ((PyStringLiteralExpression) value).getStringValue();
                 } else if ("summary".equals(keyName) && (value instanceof PyStringLiteralExpression)) {
                     summary = ((PyStringLiteralExpression) value).getStringValue().trim();
+                } else if ("version".equals(keyName) && value instanceof PyStringLiteralExpression) {
+                    version = ((PyStringLiteralExpression) value).getStringValue();
                 } else if (OdooNames.MANIFEST_DEPENDS.equals(keyName) && value instanceof PySequenceExpression) {
                     depends = PyUtil.strListValue(value);
+                } else if (OdooNames.MANIFEST_DATA.equals(keyName)) {
+                    data = getStringValues(value);
+                } else if (OdooNames.MANIFEST_DEMO.equals(keyName)) {
+                    demo = getStringValues(value);
+                } else if (OdooNames.MANIFEST_QWEB.equals(keyName)) {
+                    qweb = getStringValues(value);
+                } else if ("assets".equals(keyName) && value instanceof PyDictLiteralExpression) {
+                    assets = new LinkedHashMap<>();
+                    for (PyKeyValueExpression bundle : ((PyDictLiteralExpression) value).getElements()) {
+                        if (bundle.getKey() instanceof PyStringLiteralExpression) {
+                            String bundleName = ((PyStringLiteralExpression) bundle.getKey()).getStringValue();
+                            assets.put(bundleName, getStringValues(bundle.getValue()));
+                        }
+                    }
+                } else if ("auto_install".equals(keyName)) {
+                    if (value instanceof PyBoolLiteralExpression) {
+                        autoInstall = ((PyBoolLiteralExpression) value).getValue();
+                    } else if (value instanceof PySequenceExpression) {
+                        autoInstall = ((PySequenceExpression) value).getElements().length > 0;
+                    }
+                } else if ("installable".equals(keyName) && value instanceof PyBoolLiteralExpression) {
+                    installable = ((PyBoolLiteralExpression) value).getValue();
                 }
             }
         }
@@ -75,6 +155,32 @@ public class OdooManifestInfo {
         return new OdooManifestInfo(
                 name,
                 summary,
-                depends != null ? depends.toArray(new String[0]) : null);
+                version,
+                depends != null ? depends.toArray(new String[0]) : null,
+                data,
+                demo,
+                qweb,
+                assets,
+                autoInstall,
+                installable);
+    }
+
+    @NotNull
+    private static String[] getStringValues(@Nullable PyExpression value) {
+        if (!(value instanceof PySequenceExpression)) {
+            return ArrayUtil.EMPTY_STRING_ARRAY;
+        }
+        List<String> values = new LinkedList<>();
+        for (PyExpression element : ((PySequenceExpression) value).getElements()) {
+            if (element instanceof PyStringLiteralExpression) {
+                values.add(((PyStringLiteralExpression) element).getStringValue());
+            } else if (element instanceof PyTupleExpression) {
+                PyExpression[] items = ((PyTupleExpression) element).getElements();
+                if (items.length > 0 && items[items.length - 1] instanceof PyStringLiteralExpression) {
+                    values.add(((PyStringLiteralExpression) items[items.length - 1]).getStringValue());
+                }
+            }
+        }
+        return ArrayUtil.toStringArray(values);
     }
 }
@@ -0,0 +1,74 @@
+package dev.ngocta.pycharm.odoo.python.module;
+
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import dev.ngocta.pycharm.odoo.OdooUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+class OdooManifestInfoExternalizer implements DataExternalizer<OdooManifestInfo> {
+    public static final OdooManifestInfoExternalizer INSTANCE = new OdooManifestInfoExternalizer();
+
+    @Override
+    public void save(@NotNull DataOutput out,
+                     OdooManifestInfo value) throws IOException {
+        OdooUtils.writeNullableString(value.getName(), out);
+        OdooUtils.writeNullableString(value.getSummary(), out);
+        OdooUtils.writeNullableString(value.getVersion(), out);
+        out.writeBoolean(value.getDepends() != null);
+        if (value.getDepends() != null) {
+            writeStrings(out, value.getDepends());
+        }
+        writeStrings(out, value.getData());
+        writeStrings(out, value.getDemo());
+        writeStrings(out, value.getQweb());
+        DataInputOutputUtil.writeINT(out, value.getAssets().size());
+        for (Map.Entry<String, String[]> entry : value.getAssets().entrySet()) {
+            out.writeUTF(entry.getKey());
+            writeStrings(out, entry.getValue());
+        }
+        out.writeBoolean(value.isAutoInstall());
+        out.writeBoolean(value.isInstallable());
+    }
+
+    @Override
+    public OdooManifestInfo read(@NotNull DataInput in) throws IOException {
+        String name = OdooUtils.readNullableString(in);
+        String summary = OdooUtils.readNullableString(in);
+        String version = OdooUtils.readNullableString(in);
+        String[] depends = in.readBoolean() ? readStrings(in) : null;
+        String[] data = readStrings(in);
+        String[] demo = readStrings(in);
+        String[] qweb = readStrings(in);
+        int assetsSize = DataInputOutputUtil.readINT(in);
+        Map<String, String[]> assets = new LinkedHashMap<>(assetsSize);
+        for (int i = 0; i < assetsSize; i++) {
+            assets.put(in.readUTF(), readStrings(in));
+        }
+        boolean autoInstall = in.readBoolean();
+        boolean installable = in.readBoolean();
+        return new OdooManifestInfo(name, summary, version, depends, data, demo, qweb, assets, autoInstall, installable);
+    }
+
+    private static void writeStrings(@NotNull DataOutput out,
+                                     @NotNull String[] values) throws IOException {
+        DataInputOutputUtil.writeINT(out, values.length);
+        for (String value : values) {
+            out.writeUTF(value);
+        }
+    }
+
+    @NotNull
+    private static String[] readStrings(@NotNull DataInput in) throws IOException {
+        String[] values = new String[DataInputOutputUtil.readINT(in)];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = in.readUTF();
+        }
+        return values;
+    }
+}
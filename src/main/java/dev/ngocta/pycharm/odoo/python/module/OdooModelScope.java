@@ -0,0 +1,95 @@
+package dev.ngocta.pycharm.odoo.python.module;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.ModificationTracker;
+import com.intellij.openapi.util.UserDataHolderBase;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.search.GlobalSearchScope;
+import dev.ngocta.pycharm.odoo.OdooStructureModificationTracker;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.BitSet;
+
+/**
+ * The set of Odoo modules visible from a place in code, i.e. a module with its dependency closure. Files that see the
+ * same modules share one instance, so caches of model resolution stored on it are computed once per closure.
+ */
+public class OdooModelScope extends UserDataHolderBase {
+    private final Project myProject;
+    private final BitSet myNodes;
+    private final GlobalSearchScope mySearchScope;
+    private final ModificationTracker myModificationTracker;
+    private final ModificationTracker myContentModificationTracker;
+
+    OdooModelScope(@NotNull Project project,
+                   @NotNull BitSet nodes,
+                   @NotNull GlobalSearchScope searchScope,
+                   @NotNull VirtualFile[] directories) {
+        myProject = project;
+        myNodes = nodes;
+        mySearchScope = searchScope;
+        OdooStructureModificationTracker tracker = OdooStructureModificationTracker.getInstance(project);
+        myModificationTracker = () -> {
+            long count = tracker.getGlobalModificationCount();
+            for (VirtualFile directory : directories) {
+                count += tracker.getStructureModificationCount(directory);
+            }
+            return count;
+        };
+        myContentModificationTracker = () -> {
+            long count = tracker.getGlobalModificationCount();
+            for (VirtualFile directory : directories) {
+                count += tracker.getModificationCount(directory);
+            }
+            return count;
+        };
+    }
+
+    @Nullable
+    public static OdooModelScope getInstance(@Nullable PsiElement anchor) {
+        if (anchor == null) {
+            return null;
+        }
+        OdooModule module = OdooModuleUtils.getContainingOdooModule(anchor);
+        if (module != null) {
+            return module.getModelScope();
+        }
+        OdooModuleManager manager = OdooModuleManager.getInstance(anchor.getProject());
+        OdooModuleGraph graph = manager.getGraph();
+        BitSet nodes = new BitSet(graph.size());
+        for (OdooModule systemWideModule : OdooModuleUtils.getSystemWideOdooModules(anchor)) {
+            int node = graph.getNode(systemWideModule.getDirectory().getVirtualFile());
+            if (node >= 0) {
+                nodes.set(node);
+            }
+        }
+        return manager.getModelScope(nodes);
+    }
+
+    @NotNull
+    public Project getProject() {
+        return myProject;
+    }
+
+    @NotNull
+    public GlobalSearchScope getSearchScope() {
+        return mySearchScope;
+    }
+
+    @NotNull
+    public ModificationTracker getModificationTracker() {
+        return myModificationTracker;
+    }
+
+    @NotNull
+    public ModificationTracker getContentModificationTracker() {
+        return myContentModificationTracker;
+    }
+
+    @Override
+    public String toString() {
+        return "OdooModelScope" + myNodes;
+    }
+}
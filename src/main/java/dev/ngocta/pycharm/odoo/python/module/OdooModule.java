@@ -1,32 +1,38 @@
 package dev.ngocta.pycharm.odoo.python.module;
 
+import com.intellij.openapi.project.DumbService;
 import com.intellij.openapi.project.Project;
-import com.intellij.openapi.util.Pair;
-import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.util.ModificationTracker;
+import com.intellij.openapi.util.Ref;
+import com.intellij.openapi.util.UserDataHolderBase;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiDirectory;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.search.GlobalSearchScope;
-import com.jetbrains.python.psi.PyUtil;
+import com.intellij.psi.search.GlobalSearchScopesCore;
 import dev.ngocta.pycharm.odoo.OdooNames;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Collections;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Objects;
+import java.util.*;
+
+public class OdooModule extends UserDataHolderBase {
+    private static final int SCOPE_DEPENDENCIES = 1;
+    private static final int SCOPE_EXTENSIONS = 2;
 
-public class OdooModule {
     private final PsiDirectory myDirectory;
+    private final String myName;
+    private volatile Ref<OdooManifestInfo> myManifestInfo;
+    private volatile GraphState myGraphState;
 
-    public OdooModule(@NotNull PsiDirectory directory) {
+    OdooModule(@NotNull PsiDirectory directory) {
         myDirectory = directory;
+        myName = directory.getName();
     }
 
     @NotNull
     public String getName() {
-        return myDirectory.getName();
+        return myName;
     }
 
     @NotNull
@@ -46,45 +52,66 @@ public class OdooModule {
 
     @Nullable
     public OdooManifestInfo getManifestInfo() {
-        PsiFile manifest = getManifest();
-        return manifest != null ? OdooManifestInfo.parseManifest(manifest) : null;
+        Ref<OdooManifestInfo> manifestInfo = myManifestInfo;
+        if (manifestInfo == null) {
+            if (DumbService.isDumb(getProject())) {
+                return null;
+            }
+            manifestInfo = Ref.create(OdooModuleIndex.getManifestInfo(getDirectory().getVirtualFile(), getProject()));
+            myManifestInfo = manifestInfo;
+        }
+        return manifestInfo.get();
+    }
+
+    @NotNull
+    private GraphState getGraphState() {
+        OdooModuleGraph graph = OdooModuleManager.getInstance(getProject()).getGraph();
+        GraphState state = myGraphState;
+        if (state == null || state.myGraph != graph) {
+            state = new GraphState(graph);
+            myGraphState = state;
+        }
+        return state;
     }
 
     @NotNull
     public List<OdooModule> getDepends() {
-        return PyUtil.getParameterizedCachedValue(getDirectory(), null, param -> {
-            OdooManifestInfo info = getManifestInfo();
-            if (info == null) {
-                return Collections.emptyList();
-            }
-            List<OdooModule> result = new LinkedList<>();
-            String[] depends = info.getDepends();
-            if (depends == null) {
-                return Collections.emptyList();
-            }
-            for (String depend : depends) {
-                OdooModule module = OdooModuleIndex.getOdooModuleByName(depend, getDirectory());
-                if (module != null) {
-                    result.add(module);
-                }
+        GraphState state = getGraphState();
+        List<OdooModule> depends = state.myDepends;
+        if (depends == null) {
+            if (state.myNode < 0) {
+                depends = Collections.emptyList();
+            } else {
+                depends = Collections.unmodifiableList(getOdooModules(state.myGraph, state.myGraph.getDepends(state.myNode)));
             }
-            return result;
-        });
+            state.myDepends = depends;
+        }
+        return depends;
     }
 
     @NotNull
     public List<OdooModule> getFlattenedDependsGraph() {
-        List<OdooModule> visitedModules = new LinkedList<>();
-        List<OdooModule> modules = new LinkedList<>();
-        modules.add(this);
-        OdooModule module;
-        while (!modules.isEmpty()) {
-            module = modules.remove(0);
-            visitedModules.remove(module);
-            visitedModules.add(module);
-            modules.addAll(module.getDepends());
+        GraphState state = getGraphState();
+        List<OdooModule> modules = state.myFlattenedDependsGraph;
+        if (modules == null) {
+            OdooModuleGraph graph = state.myGraph;
+            int[] nodes = state.myDependencies.stream()
+                    .boxed()
+                    .sorted(Comparator.comparingInt(graph::getRank).reversed())
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            modules = new ArrayList<>(nodes.length + 1);
+            modules.add(this);
+            modules.addAll(getOdooModules(graph, nodes));
+            modules = Collections.unmodifiableList(modules);
+            state.myFlattenedDependsGraph = modules;
         }
-        return visitedModules;
+        return modules;
+    }
+
+    public int getRank() {
+        GraphState state = getGraphState();
+        return state.myNode < 0 ? -1 : state.myGraph.getRank(state.myNode);
     }
 
     @NotNull
@@ -105,38 +132,99 @@ public class OdooModule {
     @NotNull
     public GlobalSearchScope getOdooModuleScope(boolean includeDependencies,
                                                 boolean includeExtensions) {
-        return PyUtil.getParameterizedCachedValue(getDirectory(), Pair.create(includeDependencies, includeExtensions), param -> {
-            List<OdooModule> modules = new LinkedList<>();
-            modules.add(this);
-            if (includeDependencies) {
-                modules.addAll(getFlattenedDependsGraph());
-                for (OdooModule module : OdooModuleUtils.getSystemWideOdooModules(getDirectory())) {
-                    if (!modules.contains(module)) {
-                        modules.add(module);
-                    }
-                }
+        GraphState state = getGraphState();
+        int flags = (includeDependencies ? SCOPE_DEPENDENCIES : 0) | (includeExtensions ? SCOPE_EXTENSIONS : 0);
+        GlobalSearchScope scope = state.myScopes[flags];
+        if (scope == null) {
+            scope = createOdooModuleScope(state, includeDependencies, includeExtensions);
+            state.myScopes[flags] = scope;
+        }
+        return scope;
+    }
+
+    @NotNull
+    public OdooModelScope getModelScope() {
+        return getModelScope(getGraphState());
+    }
+
+    @NotNull
+    private OdooModelScope getModelScope(@NotNull GraphState state) {
+        OdooModelScope modelScope = state.myModelScope;
+        if (modelScope == null) {
+            if (state.myNode < 0) {
+                modelScope = new OdooModelScope(getProject(), new BitSet(), getOdooModuleScope(),
+                        new VirtualFile[]{getDirectory().getVirtualFile()});
+            } else {
+                OdooModuleManager manager = OdooModuleManager.getInstance(getProject());
+                modelScope = manager.getModelScope(state.myGraph, getScopeNodes(state, true, false));
             }
-            if (includeExtensions) {
-                List<OdooModule> availableModules = OdooModuleIndex.getAvailableOdooModules(getDirectory());
-                for (OdooModule module : availableModules) {
-                    if (module.isDependOn(this)) {
-                        modules.add(module);
-                    }
+            state.myModelScope = modelScope;
+        }
+        return modelScope;
+    }
+
+    @NotNull
+    public ModificationTracker getModificationTracker() {
+        return getModelScope().getContentModificationTracker();
+    }
+
+    @NotNull
+    private GlobalSearchScope createOdooModuleScope(@NotNull GraphState state,
+                                                    boolean includeDependencies,
+                                                    boolean includeExtensions) {
+        if (state.myNode < 0) {
+            return GlobalSearchScopesCore.directoryScope(getDirectory(), true);
+        }
+        if (includeDependencies && !includeExtensions) {
+            return getModelScope(state).getSearchScope();
+        }
+        BitSet nodes = getScopeNodes(state, includeDependencies, includeExtensions);
+        return new OdooModuleSearchScope(getProject(), state.myGraph, nodes);
+    }
+
+    @NotNull
+    private BitSet getScopeNodes(@NotNull GraphState state,
+                                 boolean includeDependencies,
+                                 boolean includeExtensions) {
+        OdooModuleGraph graph = state.myGraph;
+        BitSet nodes = new BitSet(graph.size());
+        nodes.set(state.myNode);
+        if (includeDependencies) {
+            nodes.or(state.myDependencies);
+            for (OdooModule module : OdooModuleUtils.getSystemWideOdooModules(getDirectory())) {
+                int node = graph.getNode(module.getDirectory().getVirtualFile());
+                if (node >= 0) {
+                    nodes.set(node);
                 }
             }
-            List<VirtualFile> files = new LinkedList<>();
-            for (OdooModule module : modules) {
-                VfsUtilCore.processFilesRecursively(module.getDirectory().getVirtualFile(), files::add);
-            }
-            return GlobalSearchScope.filesWithLibrariesScope(getProject(), files);
-        });
+        }
+        if (includeExtensions) {
+            nodes.or(graph.getDependents(state.myNode));
+        }
+        return nodes;
     }
 
     public boolean isDependOn(@Nullable OdooModule module) {
         if (module == null) {
             return false;
         }
-        return !this.equals(module) && (getDepends().contains(module) || getFlattenedDependsGraph().contains(module));
+        GraphState state = getGraphState();
+        int other = state.myGraph.getNode(module.getDirectory().getVirtualFile());
+        return state.myGraph.isDependOn(state.myNode, other);
+    }
+
+    @NotNull
+    private List<OdooModule> getOdooModules(@NotNull OdooModuleGraph graph,
+                                            @NotNull int[] nodes) {
+        OdooModuleManager manager = OdooModuleManager.getInstance(getProject());
+        List<OdooModule> modules = new ArrayList<>(nodes.length);
+        for (int node : nodes) {
+            OdooModule module = manager.getOdooModule(graph.getDirectory(node));
+            if (module != null) {
+                modules.add(module);
+            }
+        }
+        return modules;
     }
 
     @Override
@@ -151,4 +239,20 @@ public class OdooModule {
     public int hashCode() {
         return Objects.hash(myDirectory);
     }
+
+    private class GraphState {
+        private final OdooModuleGraph myGraph;
+        private final int myNode;
+        private final BitSet myDependencies;
+        private final GlobalSearchScope[] myScopes = new GlobalSearchScope[4];
+        private volatile List<OdooModule> myDepends;
+        private volatile List<OdooModule> myFlattenedDependsGraph;
+        private volatile OdooModelScope myModelScope;
+
+        private GraphState(@NotNull OdooModuleGraph graph) {
+            myGraph = graph;
+            myNode = graph.getNode(getDirectory().getVirtualFile());
+            myDependencies = myNode >= 0 ? graph.getDependencies(myNode) : new BitSet();
+        }
+    }
 }
@@ -3,7 +3,9 @@ package dev.ngocta.pycharm.odoo.python.module;
 import com.intellij.lang.documentation.DocumentationMarkup;
 import com.intellij.lang.documentation.DocumentationProvider;
 import com.intellij.psi.PsiDirectory;
+import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.psi.PsiElement;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 public class OdooModuleDocumentationProvider implements DocumentationProvider {
@@ -14,8 +16,8 @@ public class OdooModuleDocumentationProvider implements DocumentationProvider {
         if (element instanceof PsiDirectory) {
             PsiDirectory dir = (PsiDirectory) element;
             if (OdooModuleUtils.isOdooModuleDirectory(dir.getVirtualFile())) {
-                OdooModule module = new OdooModule(dir);
-                OdooManifestInfo info = module.getManifestInfo();
+                OdooModule module = OdooModuleUtils.getOdooModule(dir.getVirtualFile(), dir.getProject());
+                OdooManifestInfo info = module != null ? module.getManifestInfo() : null;
                 if (info == null || info.getName() == null) {
                     return null;
                 }
@@ -23,9 +25,33 @@ public class OdooModuleDocumentationProvider implements DocumentationProvider {
                 if (info.getSummary() != null && !info.getSummary().isEmpty()) {
                     doc += DocumentationMarkup.CONTENT_START + info.getSummary() + DocumentationMarkup.CONTENT_END;
                 }
+                StringBuilder sections = new StringBuilder();
+                if (info.getVersion() != null) {
+                    appendSection(sections, "Version", info.getVersion());
+                }
+                if (info.getDepends() != null && info.getDepends().length > 0) {
+                    appendSection(sections, "Depends", String.join(", ", info.getDepends()));
+                }
+                if (info.isAutoInstall()) {
+                    appendSection(sections, "Auto install", "Yes");
+                }
+                if (!info.isInstallable()) {
+                    appendSection(sections, "Installable", "No");
+                }
+                if (sections.length() > 0) {
+                    doc += DocumentationMarkup.SECTIONS_START + sections + DocumentationMarkup.SECTIONS_END;
+                }
                 return doc;
             }
         }
         return null;
     }
+
+    private static void appendSection(@NotNull StringBuilder sections,
+                                      @NotNull String header,
+                                      @NotNull String value) {
+        sections.append(DocumentationMarkup.SECTION_HEADER_START).append(header).append(":")
+                .append(DocumentationMarkup.SECTION_SEPARATOR).append(StringUtil.escapeXmlEntities(value))
+                .append(DocumentationMarkup.SECTION_END);
+    }
 }
@@ -0,0 +1,196 @@
+package dev.ngocta.pycharm.odoo.python.module;
+
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectFileIndex;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.ArrayUtil;
+import com.intellij.util.indexing.FileBasedIndex;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+public class OdooModuleGraph {
+    private static final int UNVISITED = 0;
+    private static final int VISITING = 1;
+    private static final int VISITED = 2;
+
+    static final OdooModuleGraph EMPTY = new OdooModuleGraph(VirtualFile.EMPTY_ARRAY, new int[0][]);
+
+    private final VirtualFile[] myDirectories;
+    private final Map<VirtualFile, Integer> myNodes;
+    private final int[][] myDepends;
+    private final BitSet[] myDependencies;
+    private final BitSet[] myDependents;
+    private final int[] myRanks;
+
+    OdooModuleGraph(@NotNull VirtualFile[] directories,
+                    @NotNull int[][] depends) {
+        int size = directories.length;
+        myDirectories = directories;
+        myDepends = depends;
+        myNodes = new HashMap<>(size);
+        for (int i = 0; i < size; i++) {
+            myNodes.put(directories[i], i);
+        }
+        myDependencies = new BitSet[size];
+        int[] depths = new int[size];
+        int[] states = new int[size];
+        for (int i = 0; i < size; i++) {
+            if (states[i] == UNVISITED) {
+                visit(i, states, depths);
+            }
+        }
+        myDependents = new BitSet[size];
+        for (int i = 0; i < size; i++) {
+            myDependents[i] = new BitSet(size);
+        }
+        for (int i = 0; i < size; i++) {
+            BitSet dependencies = myDependencies[i];
+            for (int j = dependencies.nextSetBit(0); j >= 0; j = dependencies.nextSetBit(j + 1)) {
+                myDependents[j].set(i);
+            }
+        }
+        Integer[] sortedNodes = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            sortedNodes[i] = i;
+        }
+        Arrays.sort(sortedNodes, Comparator
+                .<Integer>comparingInt(node -> depths[node])
+                .thenComparing(node -> directories[node].getName())
+                .thenComparing(node -> directories[node].getPath()));
+        myRanks = new int[size];
+        for (int i = 0; i < size; i++) {
+            myRanks[sortedNodes[i]] = i;
+        }
+    }
+
+    private void visit(int node,
+                       @NotNull int[] states,
+                       @NotNull int[] depths) {
+        states[node] = VISITING;
+        BitSet dependencies = new BitSet(myDirectories.length);
+        int depth = 0;
+        for (int depend : myDepends[node]) {
+            if (states[depend] == UNVISITED) {
+                visit(depend, states, depths);
+            }
+            dependencies.set(depend);
+            if (states[depend] == VISITED) {
+                dependencies.or(myDependencies[depend]);
+                depth = Math.max(depth, depths[depend] + 1);
+            }
+        }
+        dependencies.clear(node);
+        myDependencies[node] = dependencies;
+        depths[node] = depth;
+        states[node] = VISITED;
+    }
+
+    public int size() {
+        return myDirectories.length;
+    }
+
+    public int getNode(@Nullable VirtualFile directory) {
+        Integer node = directory != null ? myNodes.get(directory) : null;
+        return node != null ? node : -1;
+    }
+
+    @NotNull
+    public VirtualFile getDirectory(int node) {
+        return myDirectories[node];
+    }
+
+    @NotNull
+    public int[] getDepends(int node) {
+        return myDepends[node];
+    }
+
+    @NotNull
+    public BitSet getDependencies(int node) {
+        return (BitSet) myDependencies[node].clone();
+    }
+
+    @NotNull
+    public BitSet getDependents(int node) {
+        return (BitSet) myDependents[node].clone();
+    }
+
+    public int getRank(int node) {
+        return myRanks[node];
+    }
+
+    public boolean isDependOn(int node,
+                              int other) {
+        return node >= 0 && other >= 0 && myDependencies[node].get(other);
+    }
+
+    @NotNull
+    static OdooModuleGraph build(@NotNull Project project) {
+        FileBasedIndex index = FileBasedIndex.getInstance();
+        GlobalSearchScope scope = GlobalSearchScope.allScope(project);
+        Map<VirtualFile, String[]> dir2Depends = new LinkedHashMap<>();
+        Map<String, List<VirtualFile>> name2Dirs = new HashMap<>();
+        for (String name : index.getAllKeys(OdooModuleIndex.NAME, project)) {
+            index.processValues(OdooModuleIndex.NAME, name, null, (file, info) -> {
+                VirtualFile dir = file.getParent();
+                if (dir != null && !dir2Depends.containsKey(dir)) {
+                    String[] depends = info.getDepends();
+                    dir2Depends.put(dir, depends != null ? depends : ArrayUtil.EMPTY_STRING_ARRAY);
+                    name2Dirs.computeIfAbsent(name, k -> new ArrayList<>()).add(dir);
+                }
+                return true;
+            }, scope);
+        }
+        VirtualFile[] directories = dir2Depends.keySet().toArray(VirtualFile.EMPTY_ARRAY);
+        Arrays.sort(directories, Comparator.comparing(VirtualFile::getName).thenComparing(VirtualFile::getPath));
+        name2Dirs.values().forEach(dirs -> dirs.sort(Comparator.comparing(VirtualFile::getPath)));
+        Map<VirtualFile, Integer> nodes = new HashMap<>();
+        for (int i = 0; i < directories.length; i++) {
+            nodes.put(directories[i], i);
+        }
+        ProjectFileIndex fileIndex = ProjectFileIndex.getInstance(project);
+        int[][] depends = new int[directories.length][];
+        for (int i = 0; i < directories.length; i++) {
+            VirtualFile dir = directories[i];
+            GlobalSearchScope dependScope = null;
+            List<Integer> dependNodes = new ArrayList<>();
+            // An ambiguous name stays unresolved unless a candidate is visible from the owning IntelliJ module.
+            for (String dependName : dir2Depends.get(dir)) {
+                List<VirtualFile> candidates = name2Dirs.getOrDefault(dependName, Collections.emptyList());
+                VirtualFile depend = null;
+                if (candidates.size() == 1) {
+                    depend = candidates.get(0);
+                } else if (candidates.size() > 1) {
+                    if (dependScope == null) {
+                        dependScope = getProjectModuleWithDependenciesScope(dir, fileIndex, project);
+                    }
+                    for (VirtualFile candidate : candidates) {
+                        if (dependScope.contains(candidate)) {
+                            depend = candidate;
+                            break;
+                        }
+                    }
+                }
+                if (depend != null && !depend.equals(dir)) {
+                    dependNodes.add(nodes.get(depend));
+                }
+            }
+            depends[i] = dependNodes.stream().mapToInt(Integer::intValue).distinct().toArray();
+        }
+        return new OdooModuleGraph(directories, depends);
+    }
+
+    @NotNull
+    private static GlobalSearchScope getProjectModuleWithDependenciesScope(@NotNull VirtualFile dir,
+                                                                           @NotNull ProjectFileIndex fileIndex,
+                                                                           @NotNull Project project) {
+        Module module = fileIndex.getModuleForFile(dir);
+        if (module != null) {
+            return module.getModuleContentWithDependenciesScope().union(module.getModuleWithLibrariesScope());
+        }
+        return GlobalSearchScope.allScope(project);
+    }
+}
@@ -1,13 +1,14 @@
 package dev.ngocta.pycharm.odoo.python.module;
 
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Ref;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.util.indexing.*;
+import com.intellij.util.io.DataExternalizer;
 import com.intellij.util.io.EnumeratorStringDescriptor;
 import com.intellij.util.io.KeyDescriptor;
-import com.jetbrains.python.PythonFileType;
 import dev.ngocta.pycharm.odoo.OdooNames;
 import dev.ngocta.pycharm.odoo.OdooUtils;
 import org.jetbrains.annotations.NotNull;
@@ -15,28 +16,28 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 
-public class OdooModuleIndex extends ScalarIndexExtension<String> {
-    public static final @NotNull ID<String, Void> NAME = ID.create("odoo.module");
+public class OdooModuleIndex extends FileBasedIndexExtension<String, OdooManifestInfo> {
+    public static final @NotNull ID<String, OdooManifestInfo> NAME = ID.create("odoo.module");
 
     @NotNull
     @Override
-    public ID<String, Void> getName() {
+    public ID<String, OdooManifestInfo> getName() {
         return NAME;
     }
 
     @NotNull
     @Override
-    public DataIndexer<String, Void, FileContent> getIndexer() {
+    public DataIndexer<String, OdooManifestInfo, FileContent> getIndexer() {
         return inputData -> {
-            Map<String, Void> result = new HashMap<>();
-            VirtualFile file = inputData.getFile();
-            if (OdooNames.MANIFEST_FILE_NAME.equals(file.getName())) {
-                VirtualFile dir = file.getParent();
-                if (OdooModuleUtils.isOdooModuleDirectory(dir)) {
-                    result.put(dir.getName(), null);
-                }
+            VirtualFile dir = inputData.getFile().getParent();
+            if (!OdooModuleUtils.isOdooModuleDirectory(dir)) {
+                return Collections.emptyMap();
             }
-            return result;
+            OdooManifestInfo info = OdooManifestInfo.doParseManifest(inputData.getPsiFile());
+            if (info == null) {
+                return Collections.emptyMap();
+            }
+            return Collections.singletonMap(dir.getName(), info);
         };
     }
 
@@ -46,15 +47,21 @@ public class OdooModuleIndex extends ScalarIndexExtension<String> {
         return EnumeratorStringDescriptor.INSTANCE;
     }
 
+    @NotNull
+    @Override
+    public DataExternalizer<OdooManifestInfo> getValueExternalizer() {
+        return OdooManifestInfoExternalizer.INSTANCE;
+    }
+
     @Override
     public int getVersion() {
-        return 1;
+        return 4;
     }
 
     @NotNull
     @Override
     public FileBasedIndex.InputFilter getInputFilter() {
-        return new DefaultFileTypeSpecificInputFilter(PythonFileType.INSTANCE);
+        return file -> OdooNames.MANIFEST_FILE_NAME.equals(file.getName());
     }
 
     @Override
@@ -77,6 +84,21 @@ public class OdooModuleIndex extends ScalarIndexExtension<String> {
         return null;
     }
 
+    @Nullable
+    public static OdooManifestInfo getManifestInfo(@NotNull VirtualFile moduleDirectory,
+                                                   @NotNull Project project) {
+        VirtualFile manifest = moduleDirectory.findChild(OdooNames.MANIFEST_FILE_NAME);
+        if (manifest == null) {
+            return null;
+        }
+        Ref<OdooManifestInfo> infoRef = Ref.create();
+        FileBasedIndex.getInstance().processValues(NAME, moduleDirectory.getName(), manifest, (file, value) -> {
+            infoRef.set(value);
+            return false;
+        }, GlobalSearchScope.fileScope(project, manifest));
+        return infoRef.get();
+    }
+
     @Nullable
     public static OdooModule getOdooModuleByName(@NotNull String moduleName,
                                                  @NotNull PsiElement anchor) {
@@ -0,0 +1,257 @@
+package dev.ngocta.pycharm.odoo.python.module;
+
+import com.intellij.ProjectTopics;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ModuleRootEvent;
+import com.intellij.openapi.roots.ModuleRootListener;
+import com.intellij.openapi.util.ModificationTracker;
+import com.intellij.openapi.util.SimpleModificationTracker;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.*;
+import com.intellij.psi.PsiDirectory;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiTreeChangeAdapter;
+import com.intellij.psi.PsiTreeChangeEvent;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.util.messages.MessageBusConnection;
+import com.jetbrains.python.PyNames;
+import dev.ngocta.pycharm.odoo.OdooNames;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class OdooModuleManager implements Disposable {
+    private static final int MODULE_SEARCH_DEPTH = 2;
+
+    private final Project myProject;
+    private final SimpleModificationTracker myModificationTracker = new SimpleModificationTracker();
+    private final CachedValue<OdooModuleGraph> myGraph;
+    private final CachedValue<Map<VirtualFile, OdooModule>> myModules;
+    private final CachedValue<Map<BitSet, OdooModelScope>> myModelScopes;
+
+    public OdooModuleManager(@NotNull Project project) {
+        myProject = project;
+        myGraph = CachedValuesManager.getManager(project).createCachedValue(() -> {
+            OdooModuleGraph graph = OdooModuleGraph.build(myProject);
+            return CachedValueProvider.Result.create(graph, myModificationTracker);
+        }, false);
+        myModules = CachedValuesManager.getManager(project).createCachedValue(
+                () -> CachedValueProvider.Result.create(new ConcurrentHashMap<>(), myModificationTracker), false);
+        myModelScopes = CachedValuesManager.getManager(project).createCachedValue(
+                () -> CachedValueProvider.Result.create(new ConcurrentHashMap<>(), myModificationTracker), false);
+        MessageBusConnection connection = project.getMessageBus().connect(this);
+        connection.subscribe(VirtualFileManager.VFS_CHANGES, new BulkFileListener() {
+            @Override
+            public void before(@NotNull List<? extends VFileEvent> events) {
+                for (VFileEvent event : events) {
+                    if (event instanceof VFileDeleteEvent && isKnownModuleDirectoryOrAncestor(event.getFile())) {
+                        myModificationTracker.incModificationCount();
+                        return;
+                    }
+                }
+            }
+
+            @Override
+            public void after(@NotNull List<? extends VFileEvent> events) {
+                for (VFileEvent event : events) {
+                    if (isModuleStructureEvent(event)) {
+                        myModificationTracker.incModificationCount();
+                        return;
+                    }
+                }
+            }
+        });
+        connection.subscribe(ProjectTopics.PROJECT_ROOTS, new ModuleRootListener() {
+            @Override
+            public void rootsChanged(@NotNull ModuleRootEvent event) {
+                myModificationTracker.incModificationCount();
+            }
+        });
+        connection.subscribe(DumbService.DUMB_MODE, new DumbService.DumbModeListener() {
+            @Override
+            public void exitDumbMode() {
+                myModificationTracker.incModificationCount();
+            }
+        });
+        PsiManager.getInstance(project).addPsiTreeChangeListener(new PsiTreeChangeAdapter() {
+            @Override
+            public void childrenChanged(@NotNull PsiTreeChangeEvent event) {
+                onPsiChange(event);
+            }
+
+            @Override
+            public void childAdded(@NotNull PsiTreeChangeEvent event) {
+                onPsiChange(event);
+            }
+
+            @Override
+            public void childRemoved(@NotNull PsiTreeChangeEvent event) {
+                onPsiChange(event);
+            }
+
+            @Override
+            public void childReplaced(@NotNull PsiTreeChangeEvent event) {
+                onPsiChange(event);
+            }
+        }, this);
+    }
+
+    @NotNull
+    public static OdooModuleManager getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, OdooModuleManager.class);
+    }
+
+    @NotNull
+    public OdooModuleGraph getGraph() {
+        if (DumbService.isDumb(myProject)) {
+            return OdooModuleGraph.EMPTY;
+        }
+        return myGraph.getValue();
+    }
+
+    @Nullable
+    public OdooModule getOdooModule(@Nullable VirtualFile directory) {
+        if (directory == null || !directory.isValid()) {
+            return null;
+        }
+        return myModules.getValue().computeIfAbsent(directory, this::createOdooModule);
+    }
+
+    @Nullable
+    private OdooModule createOdooModule(@NotNull VirtualFile directory) {
+        PsiDirectory psiDirectory = PsiManager.getInstance(myProject).findDirectory(directory);
+        if (psiDirectory == null) {
+            return null;
+        }
+        return new OdooModule(psiDirectory);
+    }
+
+    @NotNull
+    OdooModelScope getModelScope(@NotNull BitSet nodes) {
+        return getModelScope(getGraph(), nodes);
+    }
+
+    @NotNull
+    OdooModelScope getModelScope(@NotNull OdooModuleGraph graph,
+                                 @NotNull BitSet nodes) {
+        if (graph != getGraph()) {
+            return createModelScope(graph, nodes);
+        }
+        return myModelScopes.getValue().computeIfAbsent(nodes, key -> createModelScope(graph, key));
+    }
+
+    @NotNull
+    private OdooModelScope createModelScope(@NotNull OdooModuleGraph graph,
+                                            @NotNull BitSet nodes) {
+        VirtualFile[] directories = nodes.stream().mapToObj(graph::getDirectory).toArray(VirtualFile[]::new);
+        return new OdooModelScope(myProject, nodes, new OdooModuleSearchScope(myProject, graph, nodes), directories);
+    }
+
+    @NotNull
+    public ModificationTracker getModificationTracker() {
+        return myModificationTracker;
+    }
+
+    private void onPsiChange(@NotNull PsiTreeChangeEvent event) {
+        PsiFile file = event.getFile();
+        if (file != null && OdooNames.MANIFEST_FILE_NAME.equals(file.getName())) {
+            myModificationTracker.incModificationCount();
+        }
+    }
+
+    private boolean isKnownModuleDirectoryOrAncestor(@Nullable VirtualFile dir) {
+        if (dir == null || !dir.isDirectory()) {
+            return false;
+        }
+        if (!myGraph.hasUpToDateValue()) {
+            return true;
+        }
+        OdooModuleGraph graph = myGraph.getValue();
+        for (int node = 0; node < graph.size(); node++) {
+            if (VfsUtilCore.isAncestor(dir, graph.getDirectory(node), false)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Directory deletions are checked against the current graph before they happen. Other directory events only count
+     * when a module root appears at or shortly below the directory.
+     */
+    private static boolean isModuleStructureEvent(@NotNull VFileEvent event) {
+        if (event instanceof VFileContentChangeEvent) {
+            return OdooNames.MANIFEST_FILE_NAME.equals(event.getFile().getName());
+        }
+        if (event instanceof VFilePropertyChangeEvent) {
+            VFilePropertyChangeEvent propertyChangeEvent = (VFilePropertyChangeEvent) event;
+            if (!propertyChangeEvent.isRename()) {
+                return false;
+            }
+            if (propertyChangeEvent.getFile().isDirectory()) {
+                return containsOdooModuleDirectory(propertyChangeEvent.getFile(), MODULE_SEARCH_DEPTH);
+            }
+            return OdooModuleRootCache.isModuleStructureFileName(propertyChangeEvent.getOldValue())
+                    || OdooModuleRootCache.isModuleStructureFileName(propertyChangeEvent.getNewValue());
+        }
+        if (event instanceof VFileCreateEvent) {
+            VFileCreateEvent createEvent = (VFileCreateEvent) event;
+            if (createEvent.isDirectory()) {
+                return containsOdooModuleDirectory(createEvent.getFile(), MODULE_SEARCH_DEPTH);
+            }
+            return OdooModuleRootCache.isModuleStructureFileName(createEvent.getChildName());
+        }
+        if (event instanceof VFileMoveEvent || event instanceof VFileCopyEvent) {
+            VirtualFile file = event.getFile();
+            if (file == null) {
+                return true;
+            }
+            if (file.isDirectory()) {
+                return containsOdooModuleDirectory(file, MODULE_SEARCH_DEPTH);
+            }
+            return OdooModuleRootCache.isModuleStructureFileName(file.getName());
+        }
+        if (event instanceof VFileDeleteEvent) {
+            VirtualFile file = event.getFile();
+            return file != null && !file.isDirectory() && OdooModuleRootCache.isModuleStructureFileName(file.getName());
+        }
+        return false;
+    }
+
+    private static boolean containsOdooModuleDirectory(@Nullable VirtualFile dir,
+                                                       int depth) {
+        if (dir == null || !dir.isValid() || !dir.isDirectory()) {
+            return false;
+        }
+        if (OdooModuleRootCache.isOdooModuleDirectory(dir)) {
+            return true;
+        }
+        String name = dir.getName();
+        if (depth <= 0 || name.startsWith(".") || PyNames.PYCACHE.equals(name) || "node_modules".equals(name)) {
+            return false;
+        }
+        for (VirtualFile child : dir.getChildren()) {
+            if (containsOdooModuleDirectory(child, depth - 1)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void dispose() {
+    }
+}
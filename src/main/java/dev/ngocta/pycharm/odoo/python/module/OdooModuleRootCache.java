@@ -0,0 +1,123 @@
+package dev.ngocta.pycharm.odoo.python.module;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.*;
+import com.intellij.util.ObjectUtils;
+import com.jetbrains.python.PyNames;
+import dev.ngocta.pycharm.odoo.OdooNames;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Application-level map from directories to their containing module root, so that index input filters and indexers,
+ * which have no project, can use it too. Any VFS event that may add or remove a module root replaces the map.
+ */
+public class OdooModuleRootCache implements Disposable {
+    private static final Object NO_MODULE = ObjectUtils.sentinel("odoo.no.module");
+
+    private volatile Map<VirtualFile, Object> myRoots = new ConcurrentHashMap<>();
+
+    public OdooModuleRootCache() {
+        ApplicationManager.getApplication().getMessageBus().connect(this).subscribe(VirtualFileManager.VFS_CHANGES, new BulkFileListener() {
+            @Override
+            public void before(@NotNull List<? extends VFileEvent> events) {
+                onFileChange(events);
+            }
+
+            @Override
+            public void after(@NotNull List<? extends VFileEvent> events) {
+                onFileChange(events);
+            }
+        });
+    }
+
+    @NotNull
+    public static OdooModuleRootCache getInstance() {
+        return ServiceManager.getService(OdooModuleRootCache.class);
+    }
+
+    @Nullable
+    public VirtualFile getContainingOdooModuleDirectory(@NotNull VirtualFile file) {
+        Map<VirtualFile, Object> roots = myRoots;
+        VirtualFile dir = file.isDirectory() ? file : file.getParent();
+        List<VirtualFile> visited = null;
+        Object root = NO_MODULE;
+        while (dir != null) {
+            Object cached = roots.get(dir);
+            if (cached != null) {
+                root = cached;
+                break;
+            }
+            if (isOdooModuleDirectory(dir)) {
+                root = dir;
+                roots.put(dir, dir);
+                break;
+            }
+            if (visited == null) {
+                visited = new ArrayList<>();
+            }
+            visited.add(dir);
+            dir = dir.getParent();
+        }
+        if (visited != null) {
+            for (VirtualFile visitedDir : visited) {
+                roots.put(visitedDir, root);
+            }
+        }
+        return root instanceof VirtualFile ? (VirtualFile) root : null;
+    }
+
+    static boolean isOdooModuleDirectory(@NotNull VirtualFile dir) {
+        return dir.isDirectory()
+                && dir.findChild(OdooNames.MANIFEST_FILE_NAME) != null
+                && dir.findChild(PyNames.INIT_DOT_PY) != null;
+    }
+
+    static boolean isModuleStructureFileName(@Nullable Object name) {
+        return OdooNames.MANIFEST_FILE_NAME.equals(name) || PyNames.INIT_DOT_PY.equals(name);
+    }
+
+    private void onFileChange(@NotNull List<? extends VFileEvent> events) {
+        for (VFileEvent event : events) {
+            if (isRootChangeEvent(event)) {
+                myRoots = new ConcurrentHashMap<>();
+                return;
+            }
+        }
+    }
+
+    private static boolean isRootChangeEvent(@NotNull VFileEvent event) {
+        if (event instanceof VFileCreateEvent) {
+            return isModuleStructureFileName(((VFileCreateEvent) event).getChildName());
+        }
+        if (event instanceof VFileCopyEvent) {
+            return isModuleStructureFileName(((VFileCopyEvent) event).getNewChildName());
+        }
+        if (event instanceof VFilePropertyChangeEvent) {
+            VFilePropertyChangeEvent propertyChangeEvent = (VFilePropertyChangeEvent) event;
+            return propertyChangeEvent.isRename()
+                    && (propertyChangeEvent.getFile().isDirectory()
+                    || isModuleStructureFileName(propertyChangeEvent.getOldValue())
+                    || isModuleStructureFileName(propertyChangeEvent.getNewValue()));
+        }
+        if (event instanceof VFileDeleteEvent || event instanceof VFileMoveEvent) {
+            VirtualFile file = event.getFile();
+            return file == null || file.isDirectory() || isModuleStructureFileName(file.getName());
+        }
+        return false;
+    }
+
+    @Override
+    public void dispose() {
+    }
+}
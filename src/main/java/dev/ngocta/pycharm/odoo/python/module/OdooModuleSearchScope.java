@@ -0,0 +1,60 @@
+package dev.ngocta.pycharm.odoo.python.module;
+
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.BitSet;
+
+public class OdooModuleSearchScope extends GlobalSearchScope {
+    private final OdooModuleGraph myGraph;
+    private final BitSet myNodes;
+
+    OdooModuleSearchScope(@NotNull Project project,
+                          @NotNull OdooModuleGraph graph,
+                          @NotNull BitSet nodes) {
+        super(project);
+        myGraph = graph;
+        myNodes = nodes;
+    }
+
+    @Override
+    public boolean contains(@NotNull VirtualFile file) {
+        VirtualFile moduleDirectory = OdooModuleUtils.getContainingOdooModuleDirectory(file);
+        if (moduleDirectory == null) {
+            return false;
+        }
+        int node = myGraph.getNode(moduleDirectory);
+        return node >= 0 && myNodes.get(node);
+    }
+
+    @Override
+    public boolean isSearchInModuleContent(@NotNull Module aModule) {
+        return true;
+    }
+
+    @Override
+    public boolean isSearchInLibraries() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OdooModuleSearchScope that = (OdooModuleSearchScope) o;
+        return myGraph == that.myGraph && myNodes.equals(that.myNodes);
+    }
+
+    @Override
+    public int hashCode() {
+        return myNodes.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "Odoo modules: " + myNodes;
+    }
+}
@@ -6,16 +6,14 @@ import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiDirectory;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
-import com.intellij.psi.PsiManager;
 import com.intellij.psi.search.GlobalSearchScope;
-import com.jetbrains.python.PyNames;
 import com.jetbrains.python.psi.PyUtil;
-import dev.ngocta.pycharm.odoo.OdooNames;
 import dev.ngocta.pycharm.odoo.OdooUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.function.Function;
 
 public class OdooModuleUtils {
     private OdooModuleUtils() {
@@ -31,19 +29,14 @@ public class OdooModuleUtils {
 
     @Nullable
     public static VirtualFile getContainingOdooModuleDirectory(@Nullable VirtualFile file) {
-        while (file != null) {
-            if (isOdooModuleDirectory(file)) {
-                return file;
-            }
-            file = file.getParent();
+        if (file == null) {
+            return null;
         }
-        return null;
+        return OdooModuleRootCache.getInstance().getContainingOdooModuleDirectory(file);
     }
 
     public static boolean isOdooModuleDirectory(@Nullable VirtualFile dir) {
-        return dir != null && dir.isDirectory()
-                && dir.findChild(OdooNames.MANIFEST_FILE_NAME) != null
-                && dir.findChild(PyNames.INIT_DOT_PY) != null;
+        return dir != null && OdooModuleRootCache.isOdooModuleDirectory(dir);
     }
 
     @Nullable
@@ -80,15 +73,13 @@ public class OdooModuleUtils {
         if (file == null) {
             return null;
         }
-        VirtualFile dir = getContainingOdooModuleDirectory(file);
-        if (dir == null) {
-            return null;
-        }
-        PsiDirectory psiDir = PsiManager.getInstance(project).findDirectory(dir);
-        if (psiDir != null) {
-            return new OdooModule(psiDir);
-        }
-        return null;
+        return getOdooModule(getContainingOdooModuleDirectory(file), project);
+    }
+
+    @Nullable
+    public static OdooModule getOdooModule(@Nullable VirtualFile moduleDirectory,
+                                           @NotNull Project project) {
+        return OdooModuleManager.getInstance(project).getOdooModule(moduleDirectory);
     }
 
     @NotNull
@@ -99,31 +90,34 @@ public class OdooModuleUtils {
     @NotNull
     public static <T extends PsiElement> List<T> sortElementByOdooModuleDependOrder(@NotNull Collection<T> elements,
                                                                                     boolean reverse) {
-        Map<OdooModule, List<T>> module2Elements = new LinkedHashMap<>();
-        for (T element : elements) {
-            OdooModule module = getContainingOdooModule(element);
+        return sortByOdooModuleDependOrder(elements, OdooModuleUtils::getContainingOdooModule, reverse);
+    }
+
+    @NotNull
+    public static <T> List<T> sortByOdooModuleDependOrder(@NotNull Collection<T> items,
+                                                          @NotNull Function<T, OdooModule> moduleGetter,
+                                                          boolean reverse) {
+        Map<OdooModule, List<T>> module2Items = new LinkedHashMap<>();
+        for (T item : items) {
+            OdooModule module = moduleGetter.apply(item);
             if (module != null) {
-                module2Elements.computeIfAbsent(module, k -> new LinkedList<>()).add(element);
+                module2Items.computeIfAbsent(module, k -> new LinkedList<>()).add(item);
             }
         }
-        Map<OdooModule, Integer> module2DependsCount = new HashMap<>();
-        for (OdooModule module : module2Elements.keySet()) {
-            module2DependsCount.put(module, module.getFlattenedDependsGraph().size());
+        Map<OdooModule, Integer> module2Rank = new HashMap<>();
+        for (OdooModule module : module2Items.keySet()) {
+            module2Rank.put(module, module.getRank());
         }
-        List<OdooModule> sortedModules = new LinkedList<>(module2DependsCount.keySet());
-        sortedModules.sort((e1, e2) -> {
-            int count1 = module2DependsCount.get(e1);
-            int count2 = module2DependsCount.get(e2);
-            return count2 - count1;
-        });
-        List<T> sortedElements = new LinkedList<>();
+        List<OdooModule> sortedModules = new LinkedList<>(module2Rank.keySet());
+        sortedModules.sort(Comparator.comparingInt(module2Rank::get).reversed());
+        List<T> sortedItems = new LinkedList<>();
         for (OdooModule module : sortedModules) {
-            sortedElements.addAll(module2Elements.get(module));
+            sortedItems.addAll(module2Items.get(module));
         }
         if (reverse) {
-            Collections.reverse(sortedElements);
+            Collections.reverse(sortedItems);
         }
-        return sortedElements;
+        return sortedItems;
     }
 
     @Nullable
@@ -175,10 +169,7 @@ public class OdooModuleUtils {
 
     @NotNull
     public static GlobalSearchScope getOdooModuleWithDependenciesOrSystemWideModulesScope(@NotNull PsiElement anchor) {
-        OdooModule module = getContainingOdooModule(anchor);
-        if (module != null) {
-            return module.getOdooModuleWithDependenciesScope();
-        }
-        return getSystemWideOdooModulesScope(anchor);
+        OdooModelScope scope = OdooModelScope.getInstance(anchor);
+        return scope != null ? scope.getSearchScope() : GlobalSearchScope.EMPTY_SCOPE;
     }
 }
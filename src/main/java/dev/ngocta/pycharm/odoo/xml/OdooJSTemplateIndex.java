@@ -13,6 +13,7 @@ import com.intellij.util.io.DataExternalizer;
 import com.intellij.util.io.EnumeratorIntegerDescriptor;
 import com.intellij.util.io.EnumeratorStringDescriptor;
 import com.intellij.util.io.KeyDescriptor;
+import dev.ngocta.pycharm.odoo.OdooUtils;
 import dev.ngocta.pycharm.odoo.python.module.OdooModule;
 import dev.ngocta.pycharm.odoo.python.module.OdooModuleUtils;
 import dev.ngocta.pycharm.odoo.xml.dom.OdooDomJSTemplate;
@@ -39,12 +40,7 @@ public class OdooJSTemplateIndex extends FileBasedIndexExtension<String, Integer
     public DataIndexer<String, Integer, FileContent> getIndexer() {
         return inputData -> {
             Map<String, Integer> result = new HashMap<>();
-            PsiFile file = PsiManager.getInstance(inputData.getProject()).findFile(inputData.getFile());
-            OdooDomJSTemplateFile templateFile = OdooXmlUtils.getOdooDomJSTemplateFile(file);
-            if (templateFile == null) {
-                return result;
-            }
-            for (OdooDomJSTemplate template : templateFile.getAllTemplates()) {
+            for (OdooJSTemplateInfo template : OdooXmlFileInfo.getInfo(inputData).getJSTemplates()) {
                 String name = template.getName();
                 String qualifiedName = template.getQualifiedName();
                 if (name != null && qualifiedName != null) {
@@ -74,7 +70,7 @@ public class OdooJSTemplateIndex extends FileBasedIndexExtension<String, Integer
 
     @Override
     public int getVersion() {
-        return 3;
+        return 4;
     }
 
     @NotNull
@@ -126,7 +122,9 @@ public class OdooJSTemplateIndex extends FileBasedIndexExtension<String, Integer
         if (odooModule == null) {
             return Collections.emptyList();
         }
-        return getAvailableTemplateNames(odooModule.getOdooModuleWithDependenciesScope(), anchor.getProject(), isQualified);
+        return OdooUtils.getParameterizedCachedValue(odooModule, isQualified, param -> {
+            return Collections.unmodifiableList(getAvailableTemplateNames(odooModule.getOdooModuleWithDependenciesScope(), odooModule.getProject(), isQualified));
+        });
     }
 
     @NotNull
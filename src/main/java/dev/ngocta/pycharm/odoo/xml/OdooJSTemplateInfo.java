@@ -0,0 +1,39 @@
+package dev.ngocta.pycharm.odoo.xml;
+
+import org.jetbrains.annotations.Nullable;
+
+public class OdooJSTemplateInfo {
+    private final String myName;
+    private final String myQualifiedName;
+    private final String myInheritName;
+    private final int myTextOffset;
+
+    OdooJSTemplateInfo(@Nullable String name,
+                       @Nullable String qualifiedName,
+                       @Nullable String inheritName,
+                       int textOffset) {
+        myName = name;
+        myQualifiedName = qualifiedName;
+        myInheritName = inheritName;
+        myTextOffset = textOffset;
+    }
+
+    @Nullable
+    public String getName() {
+        return myName;
+    }
+
+    @Nullable
+    public String getQualifiedName() {
+        return myQualifiedName;
+    }
+
+    @Nullable
+    public String getInheritName() {
+        return myInheritName;
+    }
+
+    public int getTextOffset() {
+        return myTextOffset;
+    }
+}
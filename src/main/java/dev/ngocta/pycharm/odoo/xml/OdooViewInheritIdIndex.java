@@ -22,7 +22,6 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 public class OdooViewInheritIdIndex extends ScalarIndexExtension<String> {
@@ -39,36 +38,22 @@ public class OdooViewInheritIdIndex extends ScalarIndexExtension<String> {
     public DataIndexer<String, Void, FileContent> getIndexer() {
         return inputData -> {
             Map<String, Void> result = new HashMap<>();
-            PsiFile psiFile = PsiManager.getInstance(inputData.getProject()).findFile(inputData.getFile());
-            OdooModule odooModule = OdooModuleUtils.getContainingOdooModule(psiFile);
-            if (odooModule == null) {
-                return result;
-            }
-            OdooDomDataFile dataFile = OdooXmlUtils.getOdooDataDomFile(psiFile);
-            if (dataFile != null) {
-                List<OdooDomRecordLike> items = dataFile.getAllRecordLikeItems();
-                for (OdooDomRecordLike item : items) {
-                    OdooRecord record = item.getRecord();
-                    if (record != null && record.getExtraInfo() instanceof OdooRecordViewInfo) {
-                        OdooRecordViewInfo info = (OdooRecordViewInfo) record.getExtraInfo();
-                        if (info.getInheritId() != null) {
-                            String inheritId = info.getInheritId();
-                            if (!inheritId.contains(".")) {
-                                inheritId = odooModule.getName() + "." + inheritId;
-                            }
-                            result.put(inheritId, null);
+            OdooXmlFileInfo info = OdooXmlFileInfo.getInfo(inputData);
+            for (OdooRecord record : info.getRecords()) {
+                if (record.getExtraInfo() instanceof OdooRecordViewInfo) {
+                    String inheritId = ((OdooRecordViewInfo) record.getExtraInfo()).getInheritId();
+                    if (inheritId != null) {
+                        if (!inheritId.contains(".")) {
+                            inheritId = record.getModule() + "." + inheritId;
                         }
+                        result.put(inheritId, null);
                     }
                 }
             }
-
-            OdooDomJSTemplateFile templateFile = OdooXmlUtils.getOdooDomJSTemplateFile(psiFile);
-            if (templateFile != null) {
-                for (OdooDomJSTemplate template : templateFile.getAllTemplates()) {
-                    String inherit = template.getInheritName();
-                    if (inherit != null) {
-                        result.put(inherit, null);
-                    }
+            for (OdooJSTemplateInfo template : info.getJSTemplates()) {
+                String inherit = template.getInheritName();
+                if (inherit != null) {
+                    result.put(inherit, null);
                 }
             }
             return result;
@@ -83,7 +68,7 @@ public class OdooViewInheritIdIndex extends ScalarIndexExtension<String> {
 
     @Override
     public int getVersion() {
-        return 3;
+        return 5;
     }
 
     @Override
@@ -0,0 +1,252 @@
+package dev.ngocta.pycharm.odoo.xml;
+
+import com.google.common.collect.ImmutableMap;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.util.ObjectUtils;
+import com.intellij.util.indexing.FileContent;
+import dev.ngocta.pycharm.odoo.OdooNames;
+import dev.ngocta.pycharm.odoo.data.OdooRecord;
+import dev.ngocta.pycharm.odoo.data.OdooRecordExtraInfo;
+import dev.ngocta.pycharm.odoo.data.OdooRecordViewInfo;
+import dev.ngocta.pycharm.odoo.python.module.OdooModuleUtils;
+import dev.ngocta.pycharm.odoo.xml.dom.OdooDomDataFile;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+public class OdooXmlFileInfo {
+    private static final Key<OdooXmlFileInfo> KEY = Key.create("odoo.xml.file.info");
+    private static final OdooXmlFileInfo EMPTY = new OdooXmlFileInfo(Collections.emptyList(), Collections.emptyList());
+    private static final String RECORD = "record";
+    private static final Map<String, String> OPERATION_MODELS = ImmutableMap.<String, String>builder()
+            .put(RECORD, "")
+            .put("template", OdooNames.IR_UI_VIEW)
+            .put("menuitem", OdooNames.IR_UI_MENU)
+            .put("report", OdooNames.IR_ACTIONS_REPORT)
+            .put("act_window", OdooNames.IR_ACTIONS_ACT_WINDOW)
+            .build();
+
+    private final List<OdooRecord> myRecords;
+    private final List<OdooJSTemplateInfo> myJSTemplates;
+
+    private OdooXmlFileInfo(@NotNull List<OdooRecord> records,
+                            @NotNull List<OdooJSTemplateInfo> jsTemplates) {
+        myRecords = records;
+        myJSTemplates = jsTemplates;
+    }
+
+    @NotNull
+    public List<OdooRecord> getRecords() {
+        return myRecords;
+    }
+
+    @NotNull
+    public List<OdooJSTemplateInfo> getJSTemplates() {
+        return myJSTemplates;
+    }
+
+    @NotNull
+    public static OdooXmlFileInfo getInfo(@NotNull FileContent content) {
+        OdooXmlFileInfo info = content.getUserData(KEY);
+        if (info == null) {
+            VirtualFile moduleDirectory = OdooModuleUtils.getContainingOdooModuleDirectory(content.getFile());
+            String moduleName = moduleDirectory != null ? moduleDirectory.getName() : null;
+            info = parse(content.getContentAsText(), moduleName);
+            content.putUserData(KEY, info);
+        }
+        return info;
+    }
+
+    @NotNull
+    static OdooXmlFileInfo parse(@NotNull CharSequence text,
+                                 @Nullable String moduleName) {
+        OdooXmlScanner scanner = new OdooXmlScanner(text);
+        int event = scanner.next();
+        while (event == OdooXmlScanner.TEXT) {
+            event = scanner.next();
+        }
+        if (event != OdooXmlScanner.START_TAG) {
+            return EMPTY;
+        }
+        if (scanner.isTagName(OdooDomDataFile.NAME)) {
+            if (moduleName == null) {
+                return EMPTY;
+            }
+            return new OdooXmlFileInfo(parseRecords(scanner, moduleName), Collections.emptyList());
+        }
+        if (scanner.isTagName("template") || scanner.isTagName("templates")) {
+            return new OdooXmlFileInfo(Collections.emptyList(), parseJSTemplates(scanner, moduleName));
+        }
+        return EMPTY;
+    }
+
+    @NotNull
+    private static List<OdooRecord> parseRecords(@NotNull OdooXmlScanner scanner,
+                                                 @NotNull String moduleName) {
+        List<OdooRecord> records = new LinkedList<>();
+        RecordBuilder builder = null;
+        boolean inGroup = false;
+        int depth = 1;
+        int event;
+        while ((event = scanner.next()) != OdooXmlScanner.END_DOCUMENT) {
+            if (event == OdooXmlScanner.START_TAG) {
+                depth++;
+                if (builder != null) {
+                    if (depth == builder.myDepth + 1 && scanner.isTagName("field")) {
+                        builder.visitField(scanner, depth);
+                    }
+                } else if (depth == 2 && scanner.isTagName("data")) {
+                    inGroup = true;
+                } else if (depth == 2 || (depth == 3 && inGroup)) {
+                    String tagName = scanner.getTagName();
+                    if (OPERATION_MODELS.containsKey(tagName)) {
+                        builder = new RecordBuilder(scanner, tagName, depth);
+                    }
+                }
+            } else if (event == OdooXmlScanner.TEXT) {
+                if (builder != null) {
+                    builder.visitText(scanner, depth);
+                }
+            } else if (event == OdooXmlScanner.END_TAG) {
+                if (builder != null) {
+                    builder.visitEndTag(depth);
+                    if (depth == builder.myDepth) {
+                        builder.build(moduleName, records);
+                        builder = null;
+                    }
+                }
+                if (depth == 2) {
+                    inGroup = false;
+                }
+                depth--;
+                if (depth == 0) {
+                    break;
+                }
+            }
+        }
+        if (builder != null) {
+            builder.build(moduleName, records);
+        }
+        return records;
+    }
+
+    @NotNull
+    private static List<OdooJSTemplateInfo> parseJSTemplates(@NotNull OdooXmlScanner scanner,
+                                                             @Nullable String moduleName) {
+        List<OdooJSTemplateInfo> templates = new LinkedList<>();
+        int depth = 1;
+        int event;
+        while ((event = scanner.next()) != OdooXmlScanner.END_DOCUMENT) {
+            if (event == OdooXmlScanner.START_TAG) {
+                depth++;
+                if (depth == 2) {
+                    String name = scanner.getAttribute("t-name");
+                    String inheritName = ObjectUtils.chooseNotNull(scanner.getAttribute("t-inherit"), scanner.getAttribute("t-extend"));
+                    templates.add(new OdooJSTemplateInfo(name, getQualifiedTemplateName(name, moduleName), inheritName, scanner.getStartOffset()));
+                }
+            } else if (event == OdooXmlScanner.END_TAG) {
+                depth--;
+                if (depth == 0) {
+                    break;
+                }
+            }
+        }
+        return templates;
+    }
+
+    @Nullable
+    private static String getQualifiedTemplateName(@Nullable String name,
+                                                   @Nullable String moduleName) {
+        if (name == null || moduleName == null) {
+            return name;
+        }
+        String[] splits = name.split("\\.", 2);
+        if (splits.length > 1 && moduleName.equals(splits[0])) {
+            return name;
+        }
+        return moduleName + "." + name;
+    }
+
+    private static class RecordBuilder {
+        private final String myId;
+        private final String myModel;
+        private final int myDepth;
+        private final int myTextOffset;
+        private final boolean myIsView;
+        private final OdooRecordExtraInfo myExtraInfo;
+        private boolean myViewModelFound = false;
+        private boolean myInheritIdFound = false;
+        private String myInheritId;
+        private StringBuilder myViewModel;
+        private int myViewModelDepth = 0;
+
+        private RecordBuilder(@NotNull OdooXmlScanner scanner,
+                              @NotNull String tagName,
+                              int depth) {
+            myId = StringUtil.trim(scanner.getAttribute("id"));
+            if (RECORD.equals(tagName)) {
+                myModel = StringUtil.notNullize(scanner.getAttribute("model"));
+                myIsView = OdooNames.IR_UI_VIEW.equals(myModel);
+                myExtraInfo = null;
+            } else {
+                myModel = OPERATION_MODELS.get(tagName);
+                myIsView = false;
+                if (OdooNames.IR_UI_VIEW.equals(myModel)) {
+                    myExtraInfo = new OdooRecordViewInfo(OdooNames.VIEW_TYPE_QWEB, null, scanner.getAttribute("inherit_id"));
+                } else {
+                    myExtraInfo = null;
+                }
+            }
+            myDepth = depth;
+            myTextOffset = scanner.getStartOffset();
+        }
+
+        private void visitField(@NotNull OdooXmlScanner scanner,
+                                int depth) {
+            if (!myIsView) {
+                return;
+            }
+            String name = scanner.getAttribute("name");
+            if ("model".equals(name) && !myViewModelFound) {
+                myViewModelFound = true;
+                myViewModel = new StringBuilder();
+                myViewModelDepth = depth;
+            } else if ("inherit_id".equals(name) && !myInheritIdFound) {
+                myInheritIdFound = true;
+                myInheritId = scanner.getAttribute("ref");
+            }
+        }
+
+        private void visitText(@NotNull OdooXmlScanner scanner,
+                               int depth) {
+            if (myViewModel != null && depth == myViewModelDepth && myViewModel.length() < 256) {
+                myViewModel.append(scanner.getText());
+            }
+        }
+
+        private void visitEndTag(int depth) {
+            if (depth == myViewModelDepth) {
+                myViewModelDepth = 0;
+            }
+        }
+
+        private void build(@NotNull String moduleName,
+                           @NotNull List<OdooRecord> records) {
+            if (StringUtil.isEmpty(myId)) {
+                return;
+            }
+            OdooRecordExtraInfo extraInfo = myExtraInfo;
+            if (myIsView) {
+                String viewModel = myViewModel != null ? myViewModel.toString().trim() : null;
+                extraInfo = new OdooRecordViewInfo(null, viewModel, myInheritId);
+            }
+            records.add(new OdooRecord(myId, myModel, moduleName, extraInfo, null, myTextOffset));
+        }
+    }
+}
@@ -0,0 +1,342 @@
+package dev.ngocta.pycharm.odoo.xml;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Pull scanner over the raw text of an XML file, reporting tags and character data without building a tree.
+ */
+class OdooXmlScanner {
+    static final int END_DOCUMENT = 0;
+    static final int START_TAG = 1;
+    static final int END_TAG = 2;
+    static final int TEXT = 3;
+
+    private final CharSequence myText;
+    private final int myLength;
+    private int myPos = 0;
+    private int myEventStart = 0;
+    private int myEventEnd = 0;
+    private int myNameStart = 0;
+    private int myNameEnd = 0;
+    private boolean myCData = false;
+    private boolean myEmptyElement = false;
+    private boolean myPendingEndTag = false;
+    private int myAttributeCount = 0;
+    private int[] myAttributes = new int[16];
+
+    OdooXmlScanner(@NotNull CharSequence text) {
+        myText = text;
+        myLength = text.length();
+    }
+
+    int next() {
+        if (myPendingEndTag) {
+            myPendingEndTag = false;
+            myAttributeCount = 0;
+            return END_TAG;
+        }
+        while (myPos < myLength) {
+            int start = myPos;
+            myEventStart = start;
+            myCData = false;
+            if (myText.charAt(start) != '<') {
+                myPos = indexOf('<', start + 1);
+                myEventEnd = myPos;
+                return TEXT;
+            }
+            if (startsWith("<!--", start)) {
+                myPos = skipPast("-->", start + 4);
+            } else if (startsWith("<![CDATA[", start)) {
+                int end = indexOf("]]>", start + 9);
+                myCData = true;
+                myEventStart = start + 9;
+                myEventEnd = end;
+                myPos = Math.min(end + 3, myLength);
+                return TEXT;
+            } else if (startsWith("<?", start)) {
+                myPos = skipPast("?>", start + 2);
+            } else if (startsWith("<!", start)) {
+                myPos = skipDeclaration(start + 2);
+            } else if (startsWith("</", start)) {
+                int nameEnd = scanName(start + 2);
+                if (nameEnd == start + 2) {
+                    myPos = start + 2;
+                    continue;
+                }
+                myNameStart = start + 2;
+                myNameEnd = nameEnd;
+                myAttributeCount = 0;
+                myPos = Math.min(indexOf('>', nameEnd) + 1, myLength);
+                myEventEnd = myPos;
+                return END_TAG;
+            } else {
+                int nameEnd = scanName(start + 1);
+                if (nameEnd == start + 1) {
+                    myPos = start + 1;
+                    continue;
+                }
+                myNameStart = start + 1;
+                myNameEnd = nameEnd;
+                scanAttributes(nameEnd);
+                myEventEnd = myPos;
+                myPendingEndTag = myEmptyElement;
+                return START_TAG;
+            }
+        }
+        return END_DOCUMENT;
+    }
+
+    int getStartOffset() {
+        return myEventStart;
+    }
+
+    int getEndOffset() {
+        return myEventEnd;
+    }
+
+    boolean isEmptyElement() {
+        return myEmptyElement;
+    }
+
+    boolean isTagName(@NotNull String name) {
+        return regionEquals(myNameStart, myNameEnd, name);
+    }
+
+    @NotNull
+    String getTagName() {
+        return myText.subSequence(myNameStart, myNameEnd).toString();
+    }
+
+    @Nullable
+    String getAttribute(@NotNull String name) {
+        for (int i = 0; i < myAttributeCount; i++) {
+            int base = i * 4;
+            if (regionEquals(myAttributes[base], myAttributes[base + 1], name)) {
+                return decode(myAttributes[base + 2], myAttributes[base + 3]);
+            }
+        }
+        return null;
+    }
+
+    @NotNull
+    String getText() {
+        if (myCData) {
+            return myText.subSequence(myEventStart, myEventEnd).toString();
+        }
+        return decode(myEventStart, myEventEnd);
+    }
+
+    private void scanAttributes(int pos) {
+        myAttributeCount = 0;
+        myEmptyElement = false;
+        while (pos < myLength) {
+            char c = myText.charAt(pos);
+            if (c == '>') {
+                myPos = pos + 1;
+                return;
+            }
+            if (c == '/' && pos + 1 < myLength && myText.charAt(pos + 1) == '>') {
+                myEmptyElement = true;
+                myPos = pos + 2;
+                return;
+            }
+            if (c == '<') {
+                myPos = pos;
+                return;
+            }
+            int nameEnd = scanName(pos);
+            if (nameEnd == pos) {
+                pos++;
+                continue;
+            }
+            int nameStart = pos;
+            pos = skipWhitespace(nameEnd);
+            if (pos >= myLength || myText.charAt(pos) != '=') {
+                continue;
+            }
+            pos = skipWhitespace(pos + 1);
+            if (pos >= myLength) {
+                break;
+            }
+            char quote = myText.charAt(pos);
+            int valueStart;
+            int valueEnd;
+            if (quote == '"' || quote == '\'') {
+                valueStart = pos + 1;
+                valueEnd = indexOf(quote, valueStart);
+                pos = Math.min(valueEnd + 1, myLength);
+            } else {
+                valueStart = pos;
+                valueEnd = pos;
+                while (valueEnd < myLength && !isValueTerminator(myText.charAt(valueEnd))) {
+                    valueEnd++;
+                }
+                pos = valueEnd;
+            }
+            addAttribute(nameStart, nameEnd, valueStart, valueEnd);
+        }
+        myPos = myLength;
+    }
+
+    private void addAttribute(int nameStart,
+                              int nameEnd,
+                              int valueStart,
+                              int valueEnd) {
+        int base = myAttributeCount * 4;
+        if (base + 4 > myAttributes.length) {
+            myAttributes = Arrays.copyOf(myAttributes, myAttributes.length * 2);
+        }
+        myAttributes[base] = nameStart;
+        myAttributes[base + 1] = nameEnd;
+        myAttributes[base + 2] = valueStart;
+        myAttributes[base + 3] = valueEnd;
+        myAttributeCount++;
+    }
+
+    private int skipDeclaration(int pos) {
+        int brackets = 0;
+        while (pos < myLength) {
+            char c = myText.charAt(pos++);
+            if (c == '[') {
+                brackets++;
+            } else if (c == ']') {
+                brackets--;
+            } else if (c == '>' && brackets <= 0) {
+                break;
+            }
+        }
+        return pos;
+    }
+
+    private int scanName(int pos) {
+        while (pos < myLength && isNameChar(myText.charAt(pos))) {
+            pos++;
+        }
+        return pos;
+    }
+
+    private int skipWhitespace(int pos) {
+        while (pos < myLength && Character.isWhitespace(myText.charAt(pos))) {
+            pos++;
+        }
+        return pos;
+    }
+
+    private int skipPast(@NotNull String s,
+                         int pos) {
+        return Math.min(indexOf(s, pos) + s.length(), myLength);
+    }
+
+    private int indexOf(char c,
+                        int pos) {
+        while (pos < myLength && myText.charAt(pos) != c) {
+            pos++;
+        }
+        return pos;
+    }
+
+    private int indexOf(@NotNull String s,
+                        int pos) {
+        for (int i = pos; i <= myLength - s.length(); i++) {
+            if (startsWith(s, i)) {
+                return i;
+            }
+        }
+        return myLength;
+    }
+
+    private boolean startsWith(@NotNull String s,
+                               int pos) {
+        return regionEquals(pos, Math.min(pos + s.length(), myLength), s);
+    }
+
+    private boolean regionEquals(int start,
+                                 int end,
+                                 @NotNull String s) {
+        if (end - start != s.length()) {
+            return false;
+        }
+        for (int i = 0; i < s.length(); i++) {
+            if (myText.charAt(start + i) != s.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @NotNull
+    private String decode(int start,
+                          int end) {
+        int amp = start;
+        while (amp < end && myText.charAt(amp) != '&') {
+            amp++;
+        }
+        if (amp == end) {
+            return myText.subSequence(start, end).toString();
+        }
+        StringBuilder builder = new StringBuilder(end - start);
+        builder.append(myText, start, amp);
+        int pos = amp;
+        while (pos < end) {
+            char c = myText.charAt(pos);
+            if (c == '&') {
+                int semicolon = pos + 1;
+                while (semicolon < end && semicolon - pos <= 10 && myText.charAt(semicolon) != ';') {
+                    semicolon++;
+                }
+                if (semicolon < end && myText.charAt(semicolon) == ';') {
+                    String entity = myText.subSequence(pos + 1, semicolon).toString();
+                    int decoded = decodeEntity(entity);
+                    if (decoded >= 0) {
+                        builder.appendCodePoint(decoded);
+                        pos = semicolon + 1;
+                        continue;
+                    }
+                }
+            }
+            builder.append(c);
+            pos++;
+        }
+        return builder.toString();
+    }
+
+    private static int decodeEntity(@NotNull String entity) {
+        switch (entity) {
+            case "lt":
+                return '<';
+            case "gt":
+                return '>';
+            case "amp":
+                return '&';
+            case "quot":
+                return '"';
+            case "apos":
+                return '\'';
+        }
+        if (entity.length() > 1 && entity.charAt(0) == '#') {
+            try {
+                int codePoint;
+                if (entity.charAt(1) == 'x' || entity.charAt(1) == 'X') {
+                    codePoint = Integer.parseInt(entity.substring(2), 16);
+                } else {
+                    codePoint = Integer.parseInt(entity.substring(1));
+                }
+                return Character.isValidCodePoint(codePoint) ? codePoint : -1;
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isNameChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '-' || c == '.' || c == ':';
+    }
+
+    private static boolean isValueTerminator(char c) {
+        return Character.isWhitespace(c) || c == '>' || c == '/';
+    }
+}
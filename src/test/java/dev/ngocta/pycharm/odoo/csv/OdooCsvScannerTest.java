@@ -0,0 +1,85 @@
+package dev.ngocta.pycharm.odoo.csv;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class OdooCsvScannerTest {
+    @Test
+    public void testRows() {
+        OdooCsvScanner scanner = new OdooCsvScanner("id,name\na,b\r\nc,d");
+        assertTrue(scanner.nextRow());
+        assertEquals(2, scanner.getFieldCount());
+        assertEquals(0, scanner.indexOfField("id"));
+        assertEquals(1, scanner.indexOfField("name"));
+        assertEquals(-1, scanner.indexOfField("missing"));
+        assertTrue(scanner.nextRow());
+        assertEquals(8, scanner.getRowOffset());
+        assertEquals("a", scanner.getField(0));
+        assertEquals("b", scanner.getField(1));
+        assertTrue(scanner.nextRow());
+        assertEquals(13, scanner.getRowOffset());
+        assertEquals("c", scanner.getField(0));
+        assertEquals("d", scanner.getField(1));
+        assertFalse(scanner.nextRow());
+    }
+
+    @Test
+    public void testQuotedFields() {
+        OdooCsvScanner scanner = new OdooCsvScanner("\"a,b\",\"say \"\"hi\"\"\",\"multi\nline\",\"\"\nnext");
+        assertTrue(scanner.nextRow());
+        assertEquals(4, scanner.getFieldCount());
+        assertEquals("a,b", scanner.getField(0));
+        assertEquals("say \"hi\"", scanner.getField(1));
+        assertEquals("multi\nline", scanner.getField(2));
+        assertEquals("", scanner.getField(3));
+        assertTrue(scanner.nextRow());
+        assertEquals("next", scanner.getField(0));
+        assertFalse(scanner.nextRow());
+    }
+
+    @Test
+    public void testEmptyFields() {
+        OdooCsvScanner scanner = new OdooCsvScanner(",x,\n");
+        assertTrue(scanner.nextRow());
+        assertEquals(3, scanner.getFieldCount());
+        assertEquals("", scanner.getField(0));
+        assertEquals("x", scanner.getField(1));
+        assertEquals("", scanner.getField(2));
+        assertFalse(scanner.nextRow());
+    }
+
+    @Test
+    public void testBlankLinesAndByteOrderMark() {
+        OdooCsvScanner scanner = new OdooCsvScanner("\uFEFFid\n\n\r\nvalue\n\n");
+        assertTrue(scanner.nextRow());
+        assertEquals("id", scanner.getField(0));
+        assertTrue(scanner.nextRow());
+        assertEquals("value", scanner.getField(0));
+        assertFalse(scanner.nextRow());
+    }
+
+    @Test
+    public void testUnterminatedQuote() {
+        OdooCsvScanner scanner = new OdooCsvScanner("\"open,x");
+        assertTrue(scanner.nextRow());
+        assertEquals(1, scanner.getFieldCount());
+        assertEquals("open,x", scanner.getField(0));
+        assertFalse(scanner.nextRow());
+    }
+
+    @Test
+    public void testManyFields() {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 40; i++) {
+            if (i > 0) {
+                text.append(',');
+            }
+            text.append(i);
+        }
+        OdooCsvScanner scanner = new OdooCsvScanner(text);
+        assertTrue(scanner.nextRow());
+        assertEquals(40, scanner.getFieldCount());
+        assertEquals("39", scanner.getField(39));
+    }
+}
@@ -0,0 +1,50 @@
+package dev.ngocta.pycharm.odoo.csv;
+
+import dev.ngocta.pycharm.odoo.data.OdooRecord;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class OdooCsvUtilsTest {
+    @Test
+    public void testRecords() {
+        String text = "name,id,model_id:id\n" +
+                "Access,access_partner,model_res_partner\n" +
+                "Blank,,model_res_partner\n" +
+                "Short\n" +
+                "\"Quoted, name\",base.access_user,model_res_users\n";
+        List<OdooRecord> records = new ArrayList<>();
+        OdooCsvUtils.processRecordInCsvText(text, "ir.model.access", "test", null, records::add);
+        assertEquals(2, records.size());
+
+        OdooRecord record = records.get(0);
+        assertEquals("test.access_partner", record.getQualifiedId());
+        assertEquals("ir.model.access", record.getModel());
+        assertEquals("test", record.getModule());
+        assertEquals(text.indexOf("Access,"), record.getTextOffset());
+
+        assertEquals("base.access_user", records.get(1).getQualifiedId());
+        assertEquals(text.indexOf("\"Quoted"), records.get(1).getTextOffset());
+    }
+
+    @Test
+    public void testWithoutIdColumn() {
+        List<OdooRecord> records = new ArrayList<>();
+        OdooCsvUtils.processRecordInCsvText("name\nvalue\n", "res.partner", "test", null, records::add);
+        assertTrue(records.isEmpty());
+    }
+
+    @Test
+    public void testProcessorStops() {
+        List<OdooRecord> records = new ArrayList<>();
+        OdooCsvUtils.processRecordInCsvText("id\na\nb\n", "res.partner", "test", null, record -> {
+            records.add(record);
+            return false;
+        });
+        assertEquals(1, records.size());
+        assertEquals("test.a", records.get(0).getQualifiedId());
+    }
+}
@@ -0,0 +1,131 @@
+package dev.ngocta.pycharm.odoo.data;
+
+import com.intellij.util.io.DataEnumerator;
+import com.intellij.util.io.DataInputOutputUtil;
+import dev.ngocta.pycharm.odoo.OdooNames;
+import org.jetbrains.annotations.Nullable;
+import org.junit.Test;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class OdooRecordIndexValueExternalizerTest {
+    private final List<String> myNames = new ArrayList<>();
+    private final OdooRecordIndexValueExternalizer myExternalizer = new OdooRecordIndexValueExternalizer(new DataEnumerator<String>() {
+        @Override
+        public int enumerate(@Nullable String value) {
+            int index = myNames.indexOf(value);
+            if (index < 0) {
+                index = myNames.size();
+                myNames.add(value);
+            }
+            return index + 1;
+        }
+
+        @Nullable
+        @Override
+        public String valueOf(int id) {
+            return id > 0 && id <= myNames.size() ? myNames.get(id - 1) : null;
+        }
+    });
+
+    @Test
+    public void testKnownModel() throws IOException {
+        OdooRecord record = new OdooRecord("partner_1", "res.partner", "test", null, null, 42);
+        OdooRecordIndexValue value = roundTrip(OdooRecordIndexValue.create(record));
+        assertEquals("res.partner", value.getModel());
+        assertNull(value.getForeignModule());
+        assertFalse(value.isQualified());
+        assertNull(value.getExtraInfo());
+        assertEquals(42, value.getTextOffset());
+
+        OdooRecord restored = value.toRecord(record.getQualifiedId(), null);
+        assertEquals("partner_1", restored.getId());
+        assertEquals("test.partner_1", restored.getQualifiedId());
+        assertEquals("test", restored.getModule());
+    }
+
+    @Test
+    public void testUnknownModelAndForeignModule() throws IOException {
+        OdooRecord record = new OdooRecord("base.custom_1", "x_custom.model", "test", null, null, 0);
+        OdooRecordIndexValue value = roundTrip(OdooRecordIndexValue.create(record));
+        assertEquals("x_custom.model", value.getModel());
+        assertEquals("test", value.getForeignModule());
+        assertTrue(value.isQualified());
+        assertEquals(0, value.getTextOffset());
+
+        OdooRecord restored = value.toRecord(record.getQualifiedId(), null);
+        assertEquals("base.custom_1", restored.getId());
+        assertEquals("base.custom_1", restored.getQualifiedId());
+        assertEquals("test", restored.getModule());
+        assertEquals("base", restored.getOriginModule());
+    }
+
+    @Test
+    public void testViewInfo() throws IOException {
+        OdooRecordViewInfo viewInfo = new OdooRecordViewInfo(OdooNames.VIEW_TYPE_QWEB, null, "web.layout");
+        OdooRecord record = new OdooRecord("layout", OdooNames.IR_UI_VIEW, "test", viewInfo, null, 7);
+        OdooRecordIndexValue value = OdooRecordIndexValue.create(record);
+        OdooRecordIndexValue restored = roundTrip(value);
+        assertEquals(value, restored);
+        assertEquals(viewInfo, restored.getExtraInfo());
+    }
+
+    @Test
+    public void testMissingTextOffset() throws IOException {
+        OdooRecord record = new OdooRecord("partner_1", "res.partner", "test", null, null);
+        assertEquals(-1, roundTrip(OdooRecordIndexValue.create(record)).getTextOffset());
+    }
+
+    @Test
+    public void testConsecutiveValues() throws IOException {
+        OdooRecordIndexValue first = OdooRecordIndexValue.create(new OdooRecord("a", "unknown.model", "test", null, null, 1));
+        OdooRecordIndexValue second = OdooRecordIndexValue.create(new OdooRecord(
+                "b", OdooNames.IR_UI_VIEW, "test", new OdooRecordViewInfo(null, "res.partner", null), null, 2));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        myExternalizer.save(out, first);
+        myExternalizer.save(out, second);
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        assertEquals(first, myExternalizer.read(in));
+        assertEquals(second, myExternalizer.read(in));
+        assertEquals(0, in.available());
+    }
+
+    @Test
+    public void testNamesAreEnumerated() throws IOException {
+        OdooRecordIndexValue first = OdooRecordIndexValue.create(new OdooRecord("a", "res.partner", "test", null, null, 1));
+        OdooRecordIndexValue second = OdooRecordIndexValue.create(new OdooRecord("b", "res.partner", "test", null, null, 2));
+        assertEquals(first.getModel(), roundTrip(first).getModel());
+        assertEquals(second.getModel(), roundTrip(second).getModel());
+        assertEquals(1, myNames.size());
+    }
+
+    @Test(expected = IOException.class)
+    public void testUnknownNameId() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(0);
+        DataInputOutputUtil.writeINT(out, 1);
+        DataInputOutputUtil.writeINT(out, 0);
+        myExternalizer.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+
+    @Test
+    public void testKeyWithoutModule() {
+        OdooRecordIndexValue value = new OdooRecordIndexValue("res.partner", null, false, null, 3);
+        OdooRecord record = value.toRecord("partner_1", null);
+        assertEquals("partner_1", record.getId());
+        assertEquals("", record.getModule());
+        assertEquals("res.partner", record.getModel());
+    }
+
+    private OdooRecordIndexValue roundTrip(OdooRecordIndexValue value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        myExternalizer.save(new DataOutputStream(bytes), value);
+        return myExternalizer.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+}
@@ -0,0 +1,137 @@
+package dev.ngocta.pycharm.odoo.python.model;
+
+import com.intellij.testFramework.fixtures.BasePlatformTestCase;
+import com.jetbrains.python.psi.*;
+import dev.ngocta.pycharm.odoo.OdooSettings;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class OdooFieldDetectorTest extends BasePlatformTestCase {
+    private List<String> myCustomFieldClasses;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        myCustomFieldClasses = new ArrayList<>(OdooSettings.getInstance().getCustomFieldClasses());
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        try {
+            OdooSettings.getInstance().setCustomFieldClasses(myCustomFieldClasses);
+        } finally {
+            super.tearDown();
+        }
+    }
+
+    public void testKnownFieldTypes() {
+        PyClass cls = configure("from odoo import fields, models\n" +
+                "\n" +
+                "\n" +
+                "class Test(models.Model):\n" +
+                "    name = fields.Char()\n" +
+                "    partner_id = fields.Many2one('res.partner')\n" +
+                "    total = compute_total()\n");
+        assertEquals("Char", getFieldTypeName(cls, "name"));
+        assertEquals("Many2one", getFieldTypeName(cls, "partner_id"));
+        assertNull(getFieldTypeName(cls, "total"));
+    }
+
+    public void testImportAliases() {
+        PyClass cls = configure("from odoo import models\n" +
+                "from odoo.fields import Char, Many2one as M2O\n" +
+                "from openerp.fields import Integer as Int\n" +
+                "from other.fields import Float as Number\n" +
+                "\n" +
+                "\n" +
+                "class Test(models.Model):\n" +
+                "    name = Char()\n" +
+                "    partner_id = M2O('res.partner')\n" +
+                "    count = Int()\n" +
+                "    amount = Number()\n");
+        assertEquals("Char", getFieldTypeName(cls, "name"));
+        assertEquals("Many2one", getFieldTypeName(cls, "partner_id"));
+        assertEquals("Integer", getFieldTypeName(cls, "count"));
+        assertNull(getFieldTypeName(cls, "amount"));
+    }
+
+    public void testStarImport() {
+        PyClass cls = configure("from odoo import models\n" +
+                "from odoo.fields import *\n" +
+                "\n" +
+                "\n" +
+                "class Test(models.Model):\n" +
+                "    name = Char()\n" +
+                "    date = Date()\n");
+        assertEquals("Char", getFieldTypeName(cls, "name"));
+        assertEquals("Date", getFieldTypeName(cls, "date"));
+    }
+
+    public void testSameFileSubclasses() {
+        PyClass cls = configure("from odoo import fields, models\n" +
+                "from odoo.fields import Many2one as M2O\n" +
+                "\n" +
+                "\n" +
+                "class Test(models.Model):\n" +
+                "    price = Price()\n" +
+                "    partner_id = Partner('res.partner')\n" +
+                "    other = NotAField()\n" +
+                "\n" +
+                "\n" +
+                "class Partner(Base):\n" +
+                "    pass\n" +
+                "\n" +
+                "\n" +
+                "class Base(M2O):\n" +
+                "    pass\n" +
+                "\n" +
+                "\n" +
+                "class Price(fields.Float):\n" +
+                "    pass\n" +
+                "\n" +
+                "\n" +
+                "class NotAField(object):\n" +
+                "    pass\n");
+        assertEquals("Float", getFieldTypeName(cls, "price"));
+        assertEquals("Many2one", getFieldTypeName(cls, "partner_id"));
+        assertNull(getFieldTypeName(cls, "other"));
+    }
+
+    public void testCustomFieldClasses() {
+        OdooSettings.getInstance().setCustomFieldClasses(Arrays.asList(
+                "my_fields.PartnerMany2one",
+                "my_fields.Money:Monetary",
+                "Sequence : Integer"));
+        PyClass cls = configure("from odoo import models\n" +
+                "from my_module import my_fields\n" +
+                "\n" +
+                "\n" +
+                "class Test(models.Model):\n" +
+                "    partner_id = my_fields.PartnerMany2one()\n" +
+                "    amount = my_fields.Money()\n" +
+                "    sequence = Sequence()\n" +
+                "    other = my_fields.Other()\n");
+        assertEquals("Many2one", getFieldTypeName(cls, "partner_id"));
+        assertEquals("Monetary", getFieldTypeName(cls, "amount"));
+        assertEquals("Integer", getFieldTypeName(cls, "sequence"));
+        assertNull(getFieldTypeName(cls, "other"));
+    }
+
+    private PyClass configure(String text) {
+        PyFile file = (PyFile) myFixture.configureByText("models.py", text);
+        PyClass cls = file.findTopLevelClass("Test");
+        assertNotNull(cls);
+        return cls;
+    }
+
+    private static String getFieldTypeName(PyClass cls,
+                                           String attributeName) {
+        PyTargetExpression attribute = cls.findClassAttribute(attributeName, false, null);
+        assertNotNull(attribute);
+        PyExpression value = attribute.findAssignedValue();
+        assertInstanceOf(value, PyCallExpression.class);
+        return OdooFieldDetector.getFieldTypeName((PyCallExpression) value);
+    }
+}
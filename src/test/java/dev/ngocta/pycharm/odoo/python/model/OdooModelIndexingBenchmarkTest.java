@@ -0,0 +1,82 @@
+package dev.ngocta.pycharm.odoo.python.model;
+
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.testFramework.fixtures.BasePlatformTestCase;
+import com.jetbrains.python.psi.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the syntactic model and field extraction run by the Python indexers with the resolve-based field check it
+ * replaced, over a real Odoo checkout. Run with {@code -Dodoo.benchmark.path=/path/to/odoo}; without it the test does
+ * nothing.
+ */
+public class OdooModelIndexingBenchmarkTest extends BasePlatformTestCase {
+    private static final String PATH_PROPERTY = "odoo.benchmark.path";
+
+    @Override
+    protected String getTestDataPath() {
+        return StringUtil.notNullize(System.getProperty(PATH_PROPERTY));
+    }
+
+    public void testIndexingThroughput() {
+        if (StringUtil.isEmpty(System.getProperty(PATH_PROPERTY))) {
+            return;
+        }
+        VirtualFile root = myFixture.copyDirectoryToProject("", "odoo");
+        List<PyFile> files = new ArrayList<>();
+        PsiManager psiManager = PsiManager.getInstance(getProject());
+        VfsUtilCore.iterateChildrenRecursively(root, null, file -> {
+            if (!file.isDirectory() && file.getName().endsWith(".py")) {
+                PsiFile psiFile = psiManager.findFile(file);
+                if (psiFile instanceof PyFile) {
+                    psiFile.getNode();
+                    files.add((PyFile) psiFile);
+                }
+            }
+            return true;
+        });
+        assertFalse(files.isEmpty());
+
+        long start = System.nanoTime();
+        int syntacticFields = 0;
+        for (PyFile file : files) {
+            syntacticFields += OdooModelFileInfo.getInfoInner(file).getFields().size();
+        }
+        long syntacticTime = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        int resolvedFields = 0;
+        for (PyFile file : files) {
+            resolvedFields += countResolvedFields(file);
+        }
+        long resolvedTime = System.nanoTime() - start;
+
+        System.out.println(String.format("%d files: syntactic %d fields in %d ms, resolved %d fields in %d ms",
+                files.size(),
+                syntacticFields, TimeUnit.NANOSECONDS.toMillis(syntacticTime),
+                resolvedFields, TimeUnit.NANOSECONDS.toMillis(resolvedTime)));
+    }
+
+    private static int countResolvedFields(PyFile file) {
+        int count = 0;
+        for (PyClass cls : file.getTopLevelClasses()) {
+            if (OdooModelInfo.parseModelAttributes(cls) == null) {
+                continue;
+            }
+            for (PyTargetExpression attribute : cls.getClassAttributes()) {
+                PyExpression value = attribute.findAssignedValue();
+                if (value instanceof PyCallExpression && OdooModelUtils.isFieldDeclarationExpression((PyCallExpression) value)) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,84 @@
+package dev.ngocta.pycharm.odoo.python.model;
+
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.testFramework.fixtures.BasePlatformTestCase;
+import com.jetbrains.python.psi.types.TypeEvalContext;
+
+public class OdooModelMembersTest extends BasePlatformTestCase {
+    private static final String MODELS = "from odoo import fields, models\n" +
+            "\n" +
+            "\n" +
+            "class ModelA(models.Model):\n" +
+            "    _name = 'test.a'\n" +
+            "    _inherits = {'test.b': 'b_id'}\n" +
+            "\n" +
+            "    a_name = fields.Char()\n" +
+            "    b_id = fields.Many2one('test.b')\n" +
+            "\n" +
+            "\n" +
+            "class ModelB(models.Model):\n" +
+            "    _name = 'test.b'\n" +
+            "    _inherits = {'test.c': 'c_id'}\n" +
+            "\n" +
+            "    b_name = fields.Char()\n" +
+            "    c_id = fields.Many2one('test.c')\n" +
+            "\n" +
+            "\n" +
+            "class ModelC(models.Model):\n" +
+            "    _name = 'test.c'\n" +
+            "    _inherits = {'test.a': 'a_id'}\n" +
+            "\n" +
+            "    c_name = fields.Char()\n" +
+            "    a_id = fields.Many2one('test.a')\n";
+
+    private TypeEvalContext myContext;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        myFixture.addFileToProject("test_module/__init__.py", "from . import models\n");
+        myFixture.addFileToProject("test_module/__manifest__.py", "{'name': 'Test', 'depends': []}\n");
+        PsiFile file = myFixture.addFileToProject("test_module/models.py", MODELS);
+        myContext = TypeEvalContext.codeAnalysis(getProject(), file);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        myContext = null;
+        super.tearDown();
+    }
+
+    public void testDelegationCycle() {
+        OdooModelClass modelA = getModelClass("test.a");
+        assertNotNull(modelA.findField("a_name", myContext));
+        assertNotNull(modelA.findField("b_name", myContext));
+        assertNotNull(modelA.findField("c_name", myContext));
+        assertEquals("b_id", getDelegationPath(modelA, "b_name"));
+        assertEquals("b_id.c_id", getDelegationPath(modelA, "c_name"));
+    }
+
+    public void testMembersComputedInsideCycleAreComplete() {
+        getModelClass("test.a").findField("a_name", myContext);
+        OdooModelClass modelC = getModelClass("test.c");
+        assertNotNull(modelC.findField("c_name", myContext));
+        assertNotNull(modelC.findField("a_name", myContext));
+        assertNotNull(modelC.findField("b_name", myContext));
+        assertEquals("a_id", getDelegationPath(modelC, "a_name"));
+        assertEquals("a_id.b_id", getDelegationPath(modelC, "b_name"));
+        OdooModelClass modelB = getModelClass("test.b");
+        assertEquals("c_id.a_id", getDelegationPath(modelB, "a_name"));
+    }
+
+    private OdooModelClass getModelClass(String model) {
+        return OdooModelClass.getInstance(model, getProject());
+    }
+
+    private String getDelegationPath(OdooModelClass modelClass,
+                                     String fieldName) {
+        OdooModelMembers members = OdooModelMembers.getInstance(modelClass, myContext);
+        PsiElement field = members.findField(fieldName);
+        assertNotNull(field);
+        return members.getDelegationPath(field);
+    }
+}
@@ -0,0 +1,110 @@
+package dev.ngocta.pycharm.odoo.python.module;
+
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.testFramework.LightVirtualFile;
+import org.junit.Test;
+
+import java.util.BitSet;
+
+import static org.junit.Assert.*;
+
+public class OdooModuleGraphTest {
+    private static final int BASE = 0;
+    private static final int MAIL = 1;
+    private static final int PRODUCT = 2;
+    private static final int SALE = 3;
+
+    @Test
+    public void testClosures() {
+        OdooModuleGraph graph = createGraph(new String[]{"base", "mail", "product", "sale"}, new int[][]{
+                {},
+                {BASE},
+                {BASE},
+                {MAIL, PRODUCT},
+        });
+        assertEquals(4, graph.size());
+        assertEquals(bits(), graph.getDependencies(BASE));
+        assertEquals(bits(BASE), graph.getDependencies(MAIL));
+        assertEquals(bits(BASE, MAIL, PRODUCT), graph.getDependencies(SALE));
+        assertEquals(bits(MAIL, PRODUCT, SALE), graph.getDependents(BASE));
+        assertEquals(bits(SALE), graph.getDependents(PRODUCT));
+        assertEquals(bits(), graph.getDependents(SALE));
+        assertTrue(graph.isDependOn(SALE, BASE));
+        assertFalse(graph.isDependOn(BASE, SALE));
+        assertFalse(graph.isDependOn(MAIL, PRODUCT));
+        assertFalse(graph.isDependOn(SALE, -1));
+    }
+
+    @Test
+    public void testRanksFollowDependencyDepth() {
+        OdooModuleGraph graph = createGraph(new String[]{"base", "mail", "product", "sale"}, new int[][]{
+                {},
+                {BASE},
+                {BASE},
+                {MAIL, PRODUCT},
+        });
+        assertEquals(0, graph.getRank(BASE));
+        assertEquals(1, graph.getRank(MAIL));
+        assertEquals(2, graph.getRank(PRODUCT));
+        assertEquals(3, graph.getRank(SALE));
+    }
+
+    @Test
+    public void testNodes() {
+        VirtualFile base = new LightVirtualFile("base");
+        VirtualFile other = new LightVirtualFile("other");
+        OdooModuleGraph graph = new OdooModuleGraph(new VirtualFile[]{base}, new int[][]{{}});
+        assertEquals(0, graph.getNode(base));
+        assertSame(base, graph.getDirectory(0));
+        assertEquals(-1, graph.getNode(other));
+        assertEquals(-1, graph.getNode(null));
+    }
+
+    @Test
+    public void testClosuresAreCopies() {
+        OdooModuleGraph graph = createGraph(new String[]{"base", "mail"}, new int[][]{{}, {BASE}});
+        graph.getDependencies(MAIL).clear();
+        graph.getDependents(BASE).clear();
+        assertEquals(bits(BASE), graph.getDependencies(MAIL));
+        assertEquals(bits(MAIL), graph.getDependents(BASE));
+    }
+
+    @Test
+    public void testCycle() {
+        OdooModuleGraph graph = createGraph(new String[]{"a", "b", "c"}, new int[][]{
+                {1},
+                {2},
+                {0},
+        });
+        for (int node = 0; node < 3; node++) {
+            assertFalse(graph.isDependOn(node, node));
+            for (int depend : graph.getDepends(node)) {
+                assertTrue(graph.isDependOn(node, depend));
+            }
+        }
+        assertTrue(graph.isDependOn(0, 2));
+    }
+
+    @Test
+    public void testEmpty() {
+        assertEquals(0, OdooModuleGraph.EMPTY.size());
+        assertEquals(-1, OdooModuleGraph.EMPTY.getNode(new LightVirtualFile("base")));
+    }
+
+    private static OdooModuleGraph createGraph(String[] names,
+                                               int[][] depends) {
+        VirtualFile[] directories = new VirtualFile[names.length];
+        for (int i = 0; i < names.length; i++) {
+            directories[i] = new LightVirtualFile(names[i]);
+        }
+        return new OdooModuleGraph(directories, depends);
+    }
+
+    private static BitSet bits(int... nodes) {
+        BitSet bits = new BitSet();
+        for (int node : nodes) {
+            bits.set(node);
+        }
+        return bits;
+    }
+}
@@ -0,0 +1,118 @@
+package dev.ngocta.pycharm.odoo.xml;
+
+import dev.ngocta.pycharm.odoo.OdooNames;
+import dev.ngocta.pycharm.odoo.data.OdooRecord;
+import dev.ngocta.pycharm.odoo.data.OdooRecordViewInfo;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class OdooXmlFileInfoTest {
+    @Test
+    public void testRecords() {
+        String text = "<?xml version=\"1.0\"?>\n" +
+                "<odoo>\n" +
+                "    <data noupdate=\"1\">\n" +
+                "        <record id=\"partner_1\" model=\"res.partner\">\n" +
+                "            <field name=\"name\">Partner</field>\n" +
+                "        </record>\n" +
+                "    </data>\n" +
+                "    <menuitem id=\"base.menu_root\" name=\"Root\"/>\n" +
+                "    <act_window id=\"action_1\" res_model=\"res.partner\"/>\n" +
+                "    <unknown id=\"skipped\"/>\n" +
+                "</odoo>";
+        List<OdooRecord> records = OdooXmlFileInfo.parse(text, "test").getRecords();
+        assertEquals(3, records.size());
+
+        OdooRecord partner = records.get(0);
+        assertEquals("test.partner_1", partner.getQualifiedId());
+        assertEquals("res.partner", partner.getModel());
+        assertEquals("test", partner.getModule());
+        assertEquals(text.indexOf("<record"), partner.getTextOffset());
+
+        OdooRecord menu = records.get(1);
+        assertEquals("base.menu_root", menu.getQualifiedId());
+        assertEquals(OdooNames.IR_UI_MENU, menu.getModel());
+
+        assertEquals(OdooNames.IR_ACTIONS_ACT_WINDOW, records.get(2).getModel());
+    }
+
+    @Test
+    public void testRecordIdIsTrimmed() {
+        String text = "<odoo>\n" +
+                "    <record id=\" padded \" model=\"res.partner\"/>\n" +
+                "    <record id=\"  \" model=\"res.partner\"/>\n" +
+                "    <record id=\"\" model=\"res.partner\"/>\n" +
+                "    <record model=\"res.partner\"/>\n" +
+                "</odoo>";
+        List<OdooRecord> records = OdooXmlFileInfo.parse(text, "test").getRecords();
+        assertEquals(1, records.size());
+        assertEquals("test.padded", records.get(0).getQualifiedId());
+    }
+
+    @Test
+    public void testViewInfo() {
+        String text = "<odoo>\n" +
+                "    <record id=\"view_form\" model=\"ir.ui.view\">\n" +
+                "        <field name=\"model\"> res.partner </field>\n" +
+                "        <field name=\"inherit_id\" ref=\"base.view_partner_form\"/>\n" +
+                "        <field name=\"arch\" type=\"xml\">\n" +
+                "            <form><field name=\"model\">ignored</field></form>\n" +
+                "        </field>\n" +
+                "    </record>\n" +
+                "    <template id=\"layout\" inherit_id=\"web.layout\"/>\n" +
+                "</odoo>";
+        List<OdooRecord> records = OdooXmlFileInfo.parse(text, "test").getRecords();
+        assertEquals(2, records.size());
+
+        OdooRecordViewInfo viewInfo = (OdooRecordViewInfo) records.get(0).getExtraInfo();
+        assertNotNull(viewInfo);
+        assertEquals("res.partner", viewInfo.getViewModel());
+        assertEquals("base.view_partner_form", viewInfo.getInheritId());
+
+        OdooRecord template = records.get(1);
+        assertEquals(OdooNames.IR_UI_VIEW, template.getModel());
+        OdooRecordViewInfo templateInfo = (OdooRecordViewInfo) template.getExtraInfo();
+        assertNotNull(templateInfo);
+        assertEquals(OdooNames.VIEW_TYPE_QWEB, templateInfo.getViewType());
+        assertEquals("web.layout", templateInfo.getInheritId());
+    }
+
+    @Test
+    public void testUnclosedRecord() {
+        List<OdooRecord> records = OdooXmlFileInfo.parse("<odoo><record id=\"a\" model=\"res.partner\">", "test").getRecords();
+        assertEquals(1, records.size());
+        assertEquals("test.a", records.get(0).getQualifiedId());
+    }
+
+    @Test
+    public void testDataFileOutsideModule() {
+        assertTrue(OdooXmlFileInfo.parse("<odoo><record id=\"a\" model=\"res.partner\"/></odoo>", null).getRecords().isEmpty());
+    }
+
+    @Test
+    public void testJSTemplates() {
+        String text = "<templates>\n" +
+                "    <t t-name=\"test.Widget\"><div><t t-name=\"nested\"/></div></t>\n" +
+                "    <t t-name=\"Other\" t-extend=\"web.Base\"/>\n" +
+                "</templates>";
+        OdooXmlFileInfo info = OdooXmlFileInfo.parse(text, "test");
+        assertTrue(info.getRecords().isEmpty());
+        List<OdooJSTemplateInfo> templates = info.getJSTemplates();
+        assertEquals(2, templates.size());
+        assertEquals("test.Widget", templates.get(0).getName());
+        assertEquals("test.Widget", templates.get(0).getQualifiedName());
+        assertNull(templates.get(0).getInheritName());
+        assertEquals("test.Other", templates.get(1).getQualifiedName());
+        assertEquals("web.Base", templates.get(1).getInheritName());
+    }
+
+    @Test
+    public void testOtherXml() {
+        OdooXmlFileInfo info = OdooXmlFileInfo.parse("<html><record id=\"a\" model=\"res.partner\"/></html>", "test");
+        assertTrue(info.getRecords().isEmpty());
+        assertTrue(info.getJSTemplates().isEmpty());
+    }
+}
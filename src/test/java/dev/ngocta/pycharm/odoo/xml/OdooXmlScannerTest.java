@@ -0,0 +1,101 @@
+package dev.ngocta.pycharm.odoo.xml;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class OdooXmlScannerTest {
+    @Test
+    public void testTagsAndText() {
+        OdooXmlScanner scanner = new OdooXmlScanner("<odoo><record id=\"a\">text</record></odoo>");
+        assertEquals(OdooXmlScanner.START_TAG, scanner.next());
+        assertTrue(scanner.isTagName("odoo"));
+        assertEquals(OdooXmlScanner.START_TAG, scanner.next());
+        assertEquals("record", scanner.getTagName());
+        assertEquals(6, scanner.getStartOffset());
+        assertEquals("a", scanner.getAttribute("id"));
+        assertEquals(OdooXmlScanner.TEXT, scanner.next());
+        assertEquals("text", scanner.getText());
+        assertEquals(OdooXmlScanner.END_TAG, scanner.next());
+        assertTrue(scanner.isTagName("record"));
+        assertEquals(OdooXmlScanner.END_TAG, scanner.next());
+        assertTrue(scanner.isTagName("odoo"));
+        assertEquals(OdooXmlScanner.END_DOCUMENT, scanner.next());
+    }
+
+    @Test
+    public void testEmptyElementReportsEndTag() {
+        OdooXmlScanner scanner = new OdooXmlScanner("<field name=\"x\"/><next/>");
+        assertEquals(OdooXmlScanner.START_TAG, scanner.next());
+        assertTrue(scanner.isEmptyElement());
+        assertEquals("x", scanner.getAttribute("name"));
+        assertEquals(OdooXmlScanner.END_TAG, scanner.next());
+        assertEquals(OdooXmlScanner.START_TAG, scanner.next());
+        assertTrue(scanner.isTagName("next"));
+        assertEquals(OdooXmlScanner.END_TAG, scanner.next());
+        assertEquals(OdooXmlScanner.END_DOCUMENT, scanner.next());
+    }
+
+    @Test
+    public void testAttributes() {
+        OdooXmlScanner scanner = new OdooXmlScanner("<a x = 'single' y=\"double\" z=bare w>");
+        assertEquals(OdooXmlScanner.START_TAG, scanner.next());
+        assertEquals("single", scanner.getAttribute("x"));
+        assertEquals("double", scanner.getAttribute("y"));
+        assertEquals("bare", scanner.getAttribute("z"));
+        assertNull(scanner.getAttribute("w"));
+        assertNull(scanner.getAttribute("missing"));
+    }
+
+    @Test
+    public void testManyAttributes() {
+        StringBuilder text = new StringBuilder("<a");
+        for (int i = 0; i < 20; i++) {
+            text.append(" a").append(i).append("=\"").append(i).append('"');
+        }
+        text.append("/>");
+        OdooXmlScanner scanner = new OdooXmlScanner(text);
+        assertEquals(OdooXmlScanner.START_TAG, scanner.next());
+        for (int i = 0; i < 20; i++) {
+            assertEquals(String.valueOf(i), scanner.getAttribute("a" + i));
+        }
+    }
+
+    @Test
+    public void testEntities() {
+        OdooXmlScanner scanner = new OdooXmlScanner("<a v=\"&lt;&amp;&#65;&#x42;&unknown;&\">&quot;&apos;&gt;</a>");
+        assertEquals(OdooXmlScanner.START_TAG, scanner.next());
+        assertEquals("<&AB&unknown;&", scanner.getAttribute("v"));
+        assertEquals(OdooXmlScanner.TEXT, scanner.next());
+        assertEquals("\"'>", scanner.getText());
+    }
+
+    @Test
+    public void testCommentsAndDeclarationsAreSkipped() {
+        OdooXmlScanner scanner = new OdooXmlScanner("<?xml version=\"1.0\"?><!DOCTYPE x [<!ENTITY e \"v\">]><!-- <b> --><a/>");
+        assertEquals(OdooXmlScanner.START_TAG, scanner.next());
+        assertTrue(scanner.isTagName("a"));
+        assertEquals(OdooXmlScanner.END_TAG, scanner.next());
+        assertEquals(OdooXmlScanner.END_DOCUMENT, scanner.next());
+    }
+
+    @Test
+    public void testCData() {
+        OdooXmlScanner scanner = new OdooXmlScanner("<a><![CDATA[<b>&amp;]]></a>");
+        assertEquals(OdooXmlScanner.START_TAG, scanner.next());
+        assertEquals(OdooXmlScanner.TEXT, scanner.next());
+        assertEquals("<b>&amp;", scanner.getText());
+        assertEquals(OdooXmlScanner.END_TAG, scanner.next());
+    }
+
+    @Test
+    public void testTruncatedText() {
+        OdooXmlScanner scanner = new OdooXmlScanner("<a x=\"1");
+        assertEquals(OdooXmlScanner.START_TAG, scanner.next());
+        assertEquals("1", scanner.getAttribute("x"));
+        assertEquals(OdooXmlScanner.END_DOCUMENT, scanner.next());
+
+        scanner = new OdooXmlScanner("<!-- unterminated");
+        assertEquals(OdooXmlScanner.END_DOCUMENT, scanner.next());
+    }
+}